@@ -0,0 +1,45 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.booking.dto.BookingDto;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Выборки бронирований пользователя и владельца по каждому состоянию.
+ * Пропускная способность и распределение времени (p99) на одну операцию.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingServiceBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    private String state;
+
+    private int sequence;
+
+    @Benchmark
+    public Slice<BookingDto> getBookings(SeededServer server) {
+        return server.bookingService().getBookings(state, server.user(sequence++), 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Slice<BookingDto> getBookingsOwner(SeededServer server) {
+        return server.bookingService().getBookingsOwner(state, server.owner(sequence++), 0, PAGE_SIZE);
+    }
+}
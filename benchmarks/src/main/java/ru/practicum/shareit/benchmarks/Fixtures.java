@@ -0,0 +1,99 @@
+package ru.practicum.shareit.benchmarks;
+
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.datagen.SyntheticData;
+import ru.practicum.shareit.item.Comment;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.user.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Детерминированные наборы сущностей для бенчмарков с распределениями генератора
+ * {@link SyntheticData}: те же тексты, даты и статусы, что и в базе после {@code datagen}.
+ */
+final class Fixtures {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 1, 12, 0);
+
+    private final SyntheticData data = new SyntheticData(42, NOW);
+
+    List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            users.add(User.builder()
+                    .id(id)
+                    .name(data.userName(id))
+                    .email(data.userEmail(id))
+                    .build());
+        }
+        return users;
+    }
+
+    List<Item> items(int count, List<User> owners) {
+        List<Item> items = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            items.add(Item.builder()
+                    .id(id)
+                    .name(data.itemName())
+                    .description(data.itemDescription())
+                    .owner(pick(owners))
+                    .available(data.itemAvailable())
+                    .requestId(data.itemRequestId(count))
+                    .build());
+        }
+        return items;
+    }
+
+    List<Booking> bookings(int count, List<Item> items, List<User> bookers) {
+        List<Booking> bookings = new ArrayList<>(count);
+        SyntheticData.Bookings schedule = data.bookings(items.size(), count);
+        for (long id = 1; id <= count; id++) {
+            int itemId = (int) data.id(items.size());
+            Item item = items.get(itemId - 1);
+            SyntheticData.Slot slot = schedule.next(itemId);
+            bookings.add(Booking.builder()
+                    .id(id)
+                    .start(slot.getStart())
+                    .end(slot.getEnd())
+                    .item(item)
+                    .booker(bookers.get((int) data.bookerId(item.getOwner().getId(), bookers.size()) - 1))
+                    .status(slot.getStatus())
+                    .build());
+        }
+        return bookings;
+    }
+
+    List<Comment> comments(int count, List<Item> items, List<User> authors) {
+        List<Comment> comments = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            comments.add(Comment.builder()
+                    .id(id)
+                    .text(data.commentText())
+                    .item(pick(items))
+                    .author(pick(authors))
+                    .created(data.commentCreated())
+                    .build());
+        }
+        return comments;
+    }
+
+    List<ItemRequest> requests(int count, List<User> requestors) {
+        List<ItemRequest> requests = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            requests.add(ItemRequest.builder()
+                    .id(id)
+                    .description(data.requestDescription())
+                    .requestor(pick(requestors))
+                    .created(data.requestCreated())
+                    .build());
+        }
+        return requests;
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get((int) data.id(values.size()) - 1);
+    }
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Работа шлюза над телом ответа сервера со списком вещей в JSON и в Smile.
+ * passthrough - тело отдаётся клиенту байтами (Smile при этом приходится перекодировать в JSON),
+ * decode - тело читается в дерево объектов и заново пишется в JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GatewayCodecBenchmark {
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    @Param({"json", "smile"})
+    private String format;
+
+    private ObjectMapper json;
+    private ObjectMapper wire;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        json = Jackson2ObjectMapperBuilder.json().build();
+        wire = "smile".equals(format) ? Jackson2ObjectMapperBuilder.smile().build() : json;
+        body = wire.writeValueAsBytes(new ResponsePayloads(size).items);
+    }
+
+    @Benchmark
+    public byte[] passthrough() throws IOException {
+        byte[] received = Arrays.copyOf(body, body.length);
+        if (wire == json) {
+            return received;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(received.length * 2);
+        try (JsonParser parser = wire.getFactory().createParser(received);
+             JsonGenerator generator = json.getFactory().createGenerator(out)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] decode() throws IOException {
+        return json.writeValueAsBytes(wire.readValue(body, Object.class));
+    }
+}
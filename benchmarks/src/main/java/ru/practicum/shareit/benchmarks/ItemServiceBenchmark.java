@@ -0,0 +1,45 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Список вещей владельца с бронированиями и комментариями и поиск по тексту.
+ * Пропускная способность и распределение времени (p99) на одну операцию.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemServiceBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"дрель", "игра для дачи", "ель"})
+    private String text;
+
+    private int sequence;
+
+    @Benchmark
+    public List<ItemDto> getItemsByOwner(SeededServer server) {
+        return server.itemService().getItemsByOwner(server.owner(sequence++), 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<ItemDto> getItemsBySearch(SeededServer server) {
+        return server.itemService().getItemsBySearch(text, null, null, 0, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,131 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.BookingMapperImpl;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.item.Comment;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.mapper.CommentMapper;
+import ru.practicum.shareit.item.mapper.CommentMapperImpl;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.mapper.ItemMapperImpl;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.RequestMapper;
+import ru.practicum.shareit.request.RequestMapperImpl;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserMapper;
+import ru.practicum.shareit.user.UserMapperImpl;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Пропускная способность MapStruct-мапперов на списках сущностей размера {@code size}.
+ * Мапперы собираются в минимальном Spring-контексте, как в приложении.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private AnnotationConfigApplicationContext context;
+    private UserMapper userMapper;
+    private ItemMapper itemMapper;
+    private CommentMapper commentMapper;
+    private BookingMapper bookingMapper;
+    private RequestMapper requestMapper;
+
+    private List<User> users;
+    private List<Item> items;
+    private List<Comment> comments;
+    private List<Booking> bookings;
+    private List<ItemRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(UserMapperImpl.class, ItemMapperImpl.class,
+                CommentMapperImpl.class, BookingMapperImpl.class, RequestMapperImpl.class);
+        userMapper = context.getBean(UserMapper.class);
+        itemMapper = context.getBean(ItemMapper.class);
+        commentMapper = context.getBean(CommentMapper.class);
+        bookingMapper = context.getBean(BookingMapper.class);
+        requestMapper = context.getBean(RequestMapper.class);
+
+        Fixtures fixtures = new Fixtures();
+        users = fixtures.users(size);
+        items = fixtures.items(size, users);
+        comments = fixtures.comments(size, items, users);
+        bookings = fixtures.bookings(size, items, users);
+        requests = fixtures.requests(size, users);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UserDto> userToDto() {
+        return map(users, userMapper::toUserDto);
+    }
+
+    @Benchmark
+    public List<ItemDto> itemToDto() {
+        return map(items, itemMapper::toItemDto);
+    }
+
+    @Benchmark
+    public List<CommentDto> commentToDto() {
+        return map(comments, commentMapper::toCommentDto);
+    }
+
+    @Benchmark
+    public List<BookingDto> bookingToDto() {
+        return map(bookings, bookingMapper::toBookingDto);
+    }
+
+    @Benchmark
+    public List<BookingShortDto> bookingToShortDto() {
+        return map(bookings, bookingMapper::toBookingShortDto);
+    }
+
+    @Benchmark
+    public List<ItemRequestDto> requestToDto() {
+        return map(requests, requestMapper::toItemRequestDto);
+    }
+
+    private static <T, R> List<R> map(List<T> source, Function<T, R> mapper) {
+        List<R> result = new ArrayList<>(source.size());
+        for (T value : source) {
+            result.add(mapper.apply(value));
+        }
+        return result;
+    }
+}
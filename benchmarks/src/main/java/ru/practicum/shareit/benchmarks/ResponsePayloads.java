@@ -0,0 +1,84 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.BookingMapperImpl;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.item.Comment;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.mapper.CommentMapper;
+import ru.practicum.shareit.item.mapper.CommentMapperImpl;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.mapper.ItemMapperImpl;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.RequestMapper;
+import ru.practicum.shareit.request.RequestMapperImpl;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserMapperImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Списки DTO из ответов сервера: вещи с комментариями и последним/следующим бронированием,
+ * бронирования и запросы с ответными вещами.
+ */
+final class ResponsePayloads {
+    private static final int COMMENTS_PER_ITEM = 3;
+    private static final int ITEMS_PER_REQUEST = 2;
+
+    List<ItemDto> items;
+    List<BookingDto> bookings;
+    List<ItemRequestDto> requests;
+
+    ResponsePayloads(int size) {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+                UserMapperImpl.class, ItemMapperImpl.class, CommentMapperImpl.class,
+                BookingMapperImpl.class, RequestMapperImpl.class)) {
+            ItemMapper itemMapper = context.getBean(ItemMapper.class);
+            CommentMapper commentMapper = context.getBean(CommentMapper.class);
+            BookingMapper bookingMapper = context.getBean(BookingMapper.class);
+            RequestMapper requestMapper = context.getBean(RequestMapper.class);
+
+            Fixtures fixtures = new Fixtures();
+            List<User> users = fixtures.users(size);
+            List<Item> itemEntities = fixtures.items(size, users);
+            List<Booking> bookingEntities = fixtures.bookings(size * 2, itemEntities, users);
+            List<Comment> commentEntities = fixtures.comments(size * COMMENTS_PER_ITEM, itemEntities, users);
+            List<ItemRequest> requestEntities = fixtures.requests(size, users);
+
+            Map<Long, List<CommentDto>> commentsByItem = commentEntities.stream()
+                    .map(commentMapper::toCommentDto)
+                    .collect(Collectors.groupingBy(CommentDto::getItemId));
+            items = new ArrayList<>(size);
+            for (int i = 0; i < itemEntities.size(); i++) {
+                ItemDto item = itemMapper.toItemDto(itemEntities.get(i));
+                item.setComments(commentsByItem.getOrDefault(item.getId(), List.of()));
+                item.setLastBooking(bookingMapper.toBookingShortDto(bookingEntities.get(2 * i)));
+                item.setNextBooking(bookingMapper.toBookingShortDto(bookingEntities.get(2 * i + 1)));
+                items.add(item);
+            }
+
+            bookings = bookingEntities.subList(0, size).stream()
+                    .map(bookingMapper::toBookingDto)
+                    .collect(Collectors.toList());
+
+            requests = new ArrayList<>(size);
+            for (int i = 0; i < requestEntities.size(); i++) {
+                ItemRequestDto request = requestMapper.toItemRequestDto(requestEntities.get(i));
+                List<ItemDto> answers = new ArrayList<>(ITEMS_PER_REQUEST);
+                for (int j = 0; j < ITEMS_PER_REQUEST; j++) {
+                    answers.add(itemMapper.toItemDto(itemEntities.get((i + j) % itemEntities.size())));
+                }
+                request.setItems(answers);
+                requests.add(request);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.datagen.SyntheticDataLoader;
+import ru.practicum.shareit.item.ItemSearchIndex;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.request.ItemRequestMatcher;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Сервер без веб-слоя поверх H2 в памяти, заполненной {@link SyntheticDataLoader} объёмами из параметров.
+ * После заполнения индексы, построенные при старте на пустой базе, перестраиваются.
+ */
+@State(Scope.Benchmark)
+public class SeededServer {
+    private static final int BATCH_SIZE = 1_000;
+    private static final long SEED = 7;
+
+    @Param({"1000"})
+    private int users;
+
+    @Param({"10000"})
+    private int items;
+
+    @Param({"100000"})
+    private int bookings;
+
+    @Param({"20000"})
+    private int comments;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private ItemService itemService;
+    private long[] owners;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        try (Connection connection = context.getBean(DataSource.class).getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                new SyntheticDataLoader(users, 0, items, bookings, comments, BATCH_SIZE, SEED).load(connection);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+        context.getBean(ItemSearchIndex.class).rebuild();
+        context.getBean(BookingIntervalIndex.class).rebuild();
+        context.getBean(ItemRequestMatcher.class).rebuild();
+
+        bookingService = context.getBean(BookingService.class);
+        itemService = context.getBean(ItemService.class);
+        owners = context.getBean(JdbcTemplate.class).queryForList("SELECT DISTINCT item_owner_id FROM items", Long.class)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    BookingService bookingService() {
+        return bookingService;
+    }
+
+    ItemService itemService() {
+        return itemService;
+    }
+
+    long user(int sequence) {
+        return sequence % users + 1L;
+    }
+
+    long owner(int sequence) {
+        return owners[sequence % owners.length];
+    }
+}
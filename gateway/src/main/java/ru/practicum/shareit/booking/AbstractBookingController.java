@@ -0,0 +1,76 @@
+package ru.practicum.shareit.booking;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@RequestMapping(path = "/bookings")
+@Slf4j
+@Validated
+public abstract class AbstractBookingController<R> {
+	private final BookingClient<R> bookingClient;
+	private static final String X_HEADER = "X-Sharer-User-Id";
+
+	protected AbstractBookingController(BookingClient<R> bookingClient) {
+		this.bookingClient = bookingClient;
+	}
+
+	@GetMapping
+	public R getBookings(@RequestHeader(X_HEADER) long userId,
+			@RequestParam(name = "state", defaultValue = "all") String stateParam,
+			@PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+			@Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+			@RequestParam(name = "cursor", required = false) String cursor) {
+		BookingState state = BookingState.from(stateParam)
+				.orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
+		log.info("Get booking with state {}, userId={}, from={}, size={}, cursor={}", stateParam, userId, from, size, cursor);
+		return bookingClient.getBookings(userId, state, from, size, cursor);
+	}
+
+	@PostMapping
+	public R bookItem(@RequestHeader(X_HEADER) long userId,
+			@RequestBody @Valid BookItemRequestDto requestDto) {
+		log.info("Creating booking {}, userId={}", requestDto, userId);
+		return bookingClient.bookItem(userId, requestDto);
+	}
+
+	@PatchMapping("/{bookingId}")
+	public R bookUpdate(@RequestHeader(X_HEADER) long userId,
+											 @PathVariable("bookingId") long bookingId,
+											 @RequestParam("approved") boolean approved) {
+		log.info("Update booking {}, userId = {}", bookingId, userId);
+		return bookingClient.updateBooking(userId, bookingId, approved);
+	}
+
+	@GetMapping("/owner")
+	public R getBookingOwner(@RequestParam(value = "state", defaultValue = "ALL") String stateParam,
+												  @RequestHeader(X_HEADER) Long userId,
+												  @PositiveOrZero
+												  @RequestParam(name = "from", defaultValue = "0") int from,
+												  @Positive
+												  @RequestParam(name = "size",
+														  defaultValue = "10",
+														  required = false) int size,
+												  @RequestParam(name = "cursor", required = false) String cursor) {
+		log.info("Get bookings of ownerId {}", userId);
+		System.out.println(stateParam);
+		BookingState state = BookingState.from(stateParam)
+				.orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
+		System.out.println(state);
+		return bookingClient.getBookingsOwner(userId, state, from, size, cursor);
+	}
+
+	@GetMapping("/{bookingId}")
+	public R getBooking(@RequestHeader(X_HEADER) long userId,
+			@PathVariable Long bookingId) {
+		log.info("Get booking {}, userId={}", bookingId, userId);
+		return bookingClient.getBooking(userId, bookingId);
+	}
+}
@@ -1,75 +1,16 @@
 package ru.practicum.shareit.booking;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Controller;
-import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.*;
-import ru.practicum.shareit.booking.dto.BookItemRequestDto;
-import ru.practicum.shareit.booking.dto.BookingState;
-
-import javax.validation.Valid;
-import javax.validation.constraints.Positive;
-import javax.validation.constraints.PositiveOrZero;
-
-@Controller
-@RequestMapping(path = "/bookings")
-@RequiredArgsConstructor
-@Slf4j
-@Validated
-public class BookingController {
-	private final BookingClient bookingClient;
-	private static final String X_HEADER = "X-Sharer-User-Id";
-
-	@GetMapping
-	public ResponseEntity<Object> getBookings(@RequestHeader(X_HEADER) long userId,
-			@RequestParam(name = "state", defaultValue = "all") String stateParam,
-			@PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-			@Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
-		BookingState state = BookingState.from(stateParam)
-				.orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-		log.info("Get booking with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-		return bookingClient.getBookings(userId, state, from, size);
-	}
-
-	@PostMapping
-	public ResponseEntity<Object> bookItem(@RequestHeader(X_HEADER) long userId,
-			@RequestBody @Valid BookItemRequestDto requestDto) {
-		log.info("Creating booking {}, userId={}", requestDto, userId);
-		return bookingClient.bookItem(userId, requestDto);
-	}
-
-	@PatchMapping("/{bookingId}")
-	public ResponseEntity<Object> bookUpdate(@RequestHeader(X_HEADER) long userId,
-											 @PathVariable("bookingId") long bookingId,
-											 @RequestParam("approved") boolean approved) {
-		log.info("Update booking {}, userId = {}", bookingId, userId);
-		return bookingClient.updateBooking(userId, bookingId, approved);
-	}
+import org.springframework.web.bind.annotation.RestController;
 
-	@GetMapping("/owner")
-	public ResponseEntity<Object> getBookingOwner(@RequestParam(value = "state", defaultValue = "ALL") String stateParam,
-												  @RequestHeader(X_HEADER) Long userId,
-												  @PositiveOrZero
-												  @RequestParam(name = "from", defaultValue = "0") int from,
-												  @Positive
-												  @RequestParam(name = "size",
-														  defaultValue = "10",
-														  required = false) int size) {
-		log.info("Get bookings of ownerId {}", userId);
-		System.out.println(stateParam);
-		BookingState state = BookingState.from(stateParam)
-				.orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-		System.out.println(state);
-		return bookingClient.getBookingsOwner(userId, state, from, size);
-	}
+@RestController
+@Profile("!reactive")
+public class BookingController extends AbstractBookingController<ResponseEntity<Object>> {
 
-	@GetMapping("/{bookingId}")
-	public ResponseEntity<Object> getBooking(@RequestHeader(X_HEADER) long userId,
-			@PathVariable Long bookingId) {
-		log.info("Get booking {}, userId={}", bookingId, userId);
-		return bookingClient.getBooking(userId, bookingId);
-	}
+    @Autowired
+    public BookingController(BookingClient<ResponseEntity<Object>> bookingClient) {
+        super(bookingClient);
+    }
 }
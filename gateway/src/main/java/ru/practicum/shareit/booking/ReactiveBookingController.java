@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+public class ReactiveBookingController extends AbstractBookingController<Mono<ResponseEntity<Object>>> {
+
+    @Autowired
+    public ReactiveBookingController(BookingClient<Mono<ResponseEntity<Object>>> bookingClient) {
+        super(bookingClient);
+    }
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Заголовки запросов к shareit-server и преобразование его ответов в ответы шлюза.
+ */
+final class GatewayResponses {
+    private static final Set<String> FORWARDED_HEADERS = Set.of(HttpHeaders.CONTENT_TYPE, "X-Next-Cursor");
+
+    private GatewayResponses() {
+    }
+
+    static void defaultHeaders(HttpHeaders headers, @Nullable Long userId) {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (userId != null) {
+            headers.set("X-Sharer-User-Id", String.valueOf(userId));
+        }
+    }
+
+    /**
+     * Оставляет только пересылаемые заголовки. Тела в Smile, пришедшие байтами
+     * (ошибки при чтении ответов в объекты), перекодируются в JSON.
+     */
+    static ResponseEntity<Object> prepare(ResponseEntity<?> response) {
+        HttpHeaders headers = forwardedHeaders(response.getHeaders());
+        Object body = response.getBody();
+        if (SmileCodecConfig.APPLICATION_SMILE.isCompatibleWith(headers.getContentType())) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            if (body instanceof byte[]) {
+                body = SmileTranscoder.toJson((byte[]) body);
+            }
+        }
+
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode())
+                .headers(headers);
+
+        if (body != null) {
+            return responseBuilder.body(body);
+        }
+
+        return responseBuilder.build();
+    }
+
+    private static HttpHeaders forwardedHeaders(@Nullable HttpHeaders headers) {
+        HttpHeaders forwarded = new HttpHeaders();
+        if (headers != null) {
+            headers.forEach((name, values) -> {
+                if (FORWARDED_HEADERS.stream().anyMatch(name::equalsIgnoreCase)) {
+                    forwarded.addAll(name, values);
+                }
+            });
+        }
+        return forwarded;
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Ключ одинаковых GET-запросов: путь, параметры и пользователь.
+ */
+final class RequestKey {
+    private final String path;
+    private final Long userId;
+    private final Map<String, Object> parameters;
+
+    RequestKey(String path, @Nullable Long userId, @Nullable Map<String, Object> parameters) {
+        this.path = path;
+        this.userId = userId;
+        this.parameters = parameters;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RequestKey that = (RequestKey) o;
+        return path.equals(that.path)
+                && Objects.equals(userId, that.userId)
+                && Objects.equals(parameters, that.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, userId, parameters);
+    }
+}
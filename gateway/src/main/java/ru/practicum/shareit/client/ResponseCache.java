@@ -0,0 +1,18 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+
+/**
+ * Кэш ответов shareit-server. Поколение меняется при сбросе кэша: ответ, загруженный
+ * в предыдущем поколении, в кэш не попадает.
+ */
+public interface ResponseCache {
+
+    @Nullable
+    ResponseEntity<Object> getIfPresent(Object key);
+
+    long generation();
+
+    void put(Object key, ResponseEntity<Object> response, long loadedGeneration);
+}
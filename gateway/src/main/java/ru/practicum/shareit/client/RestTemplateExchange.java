@@ -0,0 +1,151 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Блокирующие запросы к shareit-server через {@link RestTemplate}.
+ */
+public class RestTemplateExchange implements ServerExchange<ResponseEntity<Object>> {
+    private final RestTemplate rest;
+    private final boolean passthrough;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ConcurrentMap<RequestKey, CompletableFuture<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+
+    public RestTemplateExchange(RestTemplate rest, boolean passthrough, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this.rest = rest;
+        this.passthrough = passthrough;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * Одновременные одинаковые GET-запросы (путь, параметры и пользователь)
+     * разделяют один вызов shareit-server.
+     */
+    @Override
+    public <T> ResponseEntity<Object> exchange(HttpMethod method, String path, @Nullable Long userId,
+                                               @Nullable Map<String, Object> parameters, @Nullable T body) {
+        if (method != HttpMethod.GET) {
+            return sendGuardedRequest(method, path, userId, parameters, body);
+        }
+        RequestKey key = new RequestKey(path, userId, parameters);
+        CompletableFuture<ResponseEntity<Object>> call = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> sharedCall = inFlight.putIfAbsent(key, call);
+        if (sharedCall != null) {
+            try {
+                return sharedCall.join();
+            } catch (CompletionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+        try {
+            ResponseEntity<Object> response = sendGuardedRequest(method, path, userId, parameters, body);
+            call.complete(response);
+            return response;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    @Override
+    public ResponseEntity<Object> cached(ResponseCache cache, Object key, Supplier<ResponseEntity<Object>> call) {
+        ResponseEntity<Object> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cache.generation();
+        ResponseEntity<Object> response = call.get();
+        cache.put(key, response, generation);
+        return response;
+    }
+
+    @Override
+    public ResponseEntity<Object> afterResponse(ResponseEntity<Object> response, Runnable action) {
+        action.run();
+        return response;
+    }
+
+    /**
+     * Пробрасывает ошибку общего вызова ожидающему потоку: непроверяемые исключения и ошибки как есть,
+     * остальное - завёрнутым в {@link IllegalStateException}.
+     */
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException("Запрос к shareit-server завершился ошибкой", cause);
+    }
+
+    /**
+     * Вызов в пределах bulkhead клиента под защитой его circuit breaker.
+     * Ответы 5xx и ошибки соединения считаются отказами.
+     */
+    private <T> ResponseEntity<Object> sendGuardedRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        bulkhead.acquirePermission();
+        try {
+            circuitBreaker.acquirePermission();
+            long start = System.nanoTime();
+            try {
+                ResponseEntity<Object> response = sendRequest(method, path, userId, parameters, body);
+                long duration = System.nanoTime() - start;
+                if (response.getStatusCode().is5xxServerError()) {
+                    circuitBreaker.onError(duration, TimeUnit.NANOSECONDS,
+                            new HttpServerErrorException(response.getStatusCode()));
+                } else {
+                    circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+                }
+                return response;
+            } catch (RuntimeException e) {
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                throw e;
+            }
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private <T> ResponseEntity<Object> sendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        HttpHeaders headers = new HttpHeaders();
+        GatewayResponses.defaultHeaders(headers, userId);
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, headers);
+        Class<?> responseType = passthrough ? byte[].class : Object.class;
+
+        ResponseEntity<?> shareitServerResponse;
+        try {
+            if (parameters != null) {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, responseType, parameters);
+            } else {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, responseType);
+            }
+        } catch (HttpStatusCodeException e) {
+            return GatewayResponses.prepare(ResponseEntity.status(e.getStatusCode())
+                    .headers(e.getResponseHeaders())
+                    .body(e.getResponseBodyAsByteArray()));
+        }
+        return GatewayResponses.prepare(shareitServerResponse);
+    }
+}
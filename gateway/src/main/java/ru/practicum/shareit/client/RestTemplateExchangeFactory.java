@@ -0,0 +1,51 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+@Component
+@Profile("!reactive")
+public class RestTemplateExchangeFactory implements ServerExchangeFactory<ResponseEntity<Object>> {
+    private final String serverUrl;
+    private final RestTemplateBuilder builder;
+    private final ClientHttpRequestFactory requestFactory;
+    private final boolean passthrough;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    public RestTemplateExchangeFactory(@Value("${shareit-server.url}") String serverUrl,
+                                       RestTemplateBuilder builder,
+                                       ClientHttpRequestFactory requestFactory,
+                                       @Value("${shareit-server.passthrough}") boolean passthrough,
+                                       CircuitBreakerRegistry circuitBreakerRegistry,
+                                       BulkheadRegistry bulkheadRegistry) {
+        this.serverUrl = serverUrl;
+        this.builder = builder;
+        this.requestFactory = requestFactory;
+        this.passthrough = passthrough;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @Override
+    public ServerExchange<ResponseEntity<Object>> create(String name, String apiPrefix) {
+        return new RestTemplateExchange(
+                builder
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + apiPrefix))
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                passthrough,
+                circuitBreakerRegistry.circuitBreaker(name),
+                bulkheadRegistry.bulkhead(name)
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Выполнение запросов к одному ресурсу shareit-server. Блокирующий режим шлюза возвращает
+ * {@code ResponseEntity<Object>}, неблокирующий - {@code Mono<ResponseEntity<Object>>};
+ * клиенты ресурсов строят запросы одинаково для обоих режимов.
+ */
+public interface ServerExchange<R> {
+
+    <T> R exchange(HttpMethod method, String path, @Nullable Long userId,
+                   @Nullable Map<String, Object> parameters, @Nullable T body);
+
+    /**
+     * Ответ из кэша или результат вызова, который кладётся в кэш.
+     */
+    R cached(ResponseCache cache, Object key, Supplier<R> call);
+
+    /**
+     * Выполняет действие после получения ответа.
+     */
+    R afterResponse(R response, Runnable action);
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.client;
+
+/**
+ * Создаёт {@link ServerExchange} для ресурса shareit-server с собственными circuit breaker и bulkhead.
+ */
+public interface ServerExchangeFactory<R> {
+
+    ServerExchange<R> create(String name, String apiPrefix);
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+
+import java.util.List;
+
+/**
+ * Запрашивает у shareit-server ответы в Smile, когда шлюз читает их в объекты.
+ * В режиме passthrough ответы запрашиваются в JSON: тело отдаётся клиенту как есть,
+ * а перекодирование Smile в JSON обходится дороже, чем экономия на размере (см. GatewayCodecBenchmark).
+ */
+@Configuration
+public class SmileCodecConfig {
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    @Bean
+    public RestTemplateCustomizer smileRestTemplateCustomizer(@Value("${shareit-server.smile}") boolean smile,
+                                                              @Value("${shareit-server.passthrough}") boolean passthrough,
+                                                              Jackson2ObjectMapperBuilder builder) {
+        return restTemplate -> {
+            if (!smile || passthrough) {
+                return;
+            }
+            restTemplate.getMessageConverters().add(new MappingJackson2SmileHttpMessageConverter(
+                    builder.factory(new SmileFactory()).build()));
+            restTemplate.getInterceptors().add((request, body, execution) -> {
+                request.getHeaders().setAccept(List.of(APPLICATION_SMILE, MediaType.APPLICATION_JSON));
+                return execution.execute(request, body);
+            });
+        };
+    }
+
+    @Bean
+    public WebClientCustomizer smileWebClientCustomizer(@Value("${shareit-server.smile}") boolean smile,
+                                                        @Value("${shareit-server.passthrough}") boolean passthrough,
+                                                        Jackson2ObjectMapperBuilder builder) {
+        return webClientBuilder -> {
+            if (!smile || passthrough) {
+                return;
+            }
+            webClientBuilder
+                    .codecs(codecs -> codecs.customCodecs().register(new Jackson2SmileDecoder(
+                            builder.factory(new SmileFactory()).build())))
+                    .filter((request, next) -> next.exchange(ClientRequest.from(request)
+                            .headers(headers -> headers.setAccept(List.of(APPLICATION_SMILE, MediaType.APPLICATION_JSON)))
+                            .build()));
+        };
+    }
+}
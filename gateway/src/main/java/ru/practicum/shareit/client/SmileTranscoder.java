@@ -0,0 +1,34 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Потоковое перекодирование Smile в JSON: токены копируются из парсера в генератор по одному.
+ */
+final class SmileTranscoder {
+    private static final SmileFactory SMILE = new SmileFactory();
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private SmileTranscoder() {
+    }
+
+    static byte[] toJson(byte[] smile) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(smile.length * 2);
+        try (JsonParser parser = SMILE.createParser(smile);
+             JsonGenerator generator = JSON.createGenerator(out)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentStructure(parser);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
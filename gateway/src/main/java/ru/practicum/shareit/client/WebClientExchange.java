@@ -0,0 +1,113 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Неблокирующие запросы к shareit-server через {@link WebClient} с теми же
+ * bulkhead, circuit breaker и объединением одинаковых GET-запросов, что и у {@link RestTemplateExchange}.
+ */
+public class WebClientExchange implements ServerExchange<Mono<ResponseEntity<Object>>> {
+    private final WebClient webClient;
+    private final boolean passthrough;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ConcurrentMap<RequestKey, Mono<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+
+    public WebClientExchange(WebClient webClient, boolean passthrough, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this.webClient = webClient;
+        this.passthrough = passthrough;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, @Nullable Long userId,
+                                                     @Nullable Map<String, Object> parameters, @Nullable T body) {
+        if (method != HttpMethod.GET) {
+            return sendGuardedRequest(method, path, userId, parameters, body);
+        }
+        return Mono.defer(() -> {
+            RequestKey key = new RequestKey(path, userId, parameters);
+            // Завершившийся вызов убирает из карты только себя, а не более новый вызов с тем же ключом
+            AtomicReference<Mono<ResponseEntity<Object>>> self = new AtomicReference<>();
+            Mono<ResponseEntity<Object>> call = sendGuardedRequest(method, path, userId, parameters, body)
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .cache();
+            self.set(call);
+            Mono<ResponseEntity<Object>> sharedCall = inFlight.putIfAbsent(key, call);
+            return sharedCall != null ? sharedCall : call;
+        });
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> cached(ResponseCache cache, Object key,
+                                               Supplier<Mono<ResponseEntity<Object>>> call) {
+        return Mono.defer(() -> {
+            ResponseEntity<Object> cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            long generation = cache.generation();
+            return call.get().doOnNext(response -> cache.put(key, response, generation));
+        });
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> afterResponse(Mono<ResponseEntity<Object>> response, Runnable action) {
+        return response.doOnNext(ignored -> action.run());
+    }
+
+    /**
+     * Ответ 5xx проходит через circuit breaker как ошибка, чтобы считаться отказом,
+     * и после него снова становится ответом.
+     */
+    private <T> Mono<ResponseEntity<Object>> sendGuardedRequest(HttpMethod method, String path, Long userId,
+                                                               @Nullable Map<String, Object> parameters, @Nullable T body) {
+        return sendRequest(method, path, userId, parameters, body)
+                .flatMap(response -> response.getStatusCode().is5xxServerError()
+                        ? Mono.error(new ServerErrorResponse(response))
+                        : Mono.just(response))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorResume(ServerErrorResponse.class, e -> Mono.just(e.response));
+    }
+
+    private <T> Mono<ResponseEntity<Object>> sendRequest(HttpMethod method, String path, Long userId,
+                                                        @Nullable Map<String, Object> parameters, @Nullable T body) {
+        WebClient.RequestBodySpec request = parameters != null
+                ? webClient.method(method).uri(path, parameters)
+                : webClient.method(method).uri(path);
+        request.headers(headers -> GatewayResponses.defaultHeaders(headers, userId));
+        WebClient.RequestHeadersSpec<?> requestWithBody = body != null ? request.bodyValue(body) : request;
+
+        return requestWithBody.exchangeToMono(response -> {
+            Mono<? extends ResponseEntity<?>> entity = passthrough || response.statusCode().isError()
+                    ? response.toEntity(byte[].class)
+                    : response.toEntity(Object.class);
+            return entity.map(GatewayResponses::prepare);
+        });
+    }
+
+    private static final class ServerErrorResponse extends RuntimeException {
+        private final ResponseEntity<Object> response;
+
+        private ServerErrorResponse(ResponseEntity<Object> response) {
+            super("shareit-server ответил " + response.getStatusCodeValue(), null, false, false);
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+public class WebClientExchangeFactory implements ServerExchangeFactory<Mono<ResponseEntity<Object>>> {
+    private final String serverUrl;
+    private final WebClient.Builder builder;
+    private final ClientHttpConnector connector;
+    private final boolean passthrough;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    public WebClientExchangeFactory(@Value("${shareit-server.url}") String serverUrl,
+                                    WebClient.Builder builder,
+                                    ClientHttpConnector connector,
+                                    @Value("${shareit-server.passthrough}") boolean passthrough,
+                                    CircuitBreakerRegistry circuitBreakerRegistry,
+                                    BulkheadRegistry bulkheadRegistry) {
+        this.serverUrl = serverUrl;
+        this.builder = builder;
+        this.connector = connector;
+        this.passthrough = passthrough;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @Override
+    public ServerExchange<Mono<ResponseEntity<Object>>> create(String name, String apiPrefix) {
+        return new WebClientExchange(
+                builder.clone()
+                        .baseUrl(serverUrl + apiPrefix)
+                        .clientConnector(connector)
+                        .build(),
+                passthrough,
+                circuitBreakerRegistry.circuitBreaker(name),
+                bulkheadRegistry.bulkhead(name)
+        );
+    }
+}
@@ -1,10 +1,18 @@
 package ru.practicum.shareit.handler;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import ru.practicum.shareit.ratelimit.TooManyRequestsException;
 
 @RestControllerAdvice
 @Slf4j
@@ -18,4 +26,47 @@ public class ErrorHandler {
                 HttpStatus.INTERNAL_SERVER_ERROR
         );
     }
+
+    @ExceptionHandler
+    public ResponseEntity<Object> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.warn("Превышен лимит запросов: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorDto(e.getMessage()));
+    }
+
+    @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class})
+    public ResponseEntity<Object> handleRejectedCall(RuntimeException e) {
+        log.warn("Вызов shareit-server отклонён: {}", e.getMessage());
+        return new ResponseEntity<>(
+                new ErrorDto(e.getMessage()),
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Object> handleResourceAccessException(ResourceAccessException e) {
+        log.warn("shareit-server недоступен: {}", e.getMessage());
+        return new ResponseEntity<>(
+                new ErrorDto("shareit-server недоступен"),
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Object> handleWebClientRequestException(WebClientRequestException e) {
+        log.warn("shareit-server недоступен: {}", e.getMessage());
+        return new ResponseEntity<>(
+                new ErrorDto("shareit-server недоступен"),
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Object> handleWebClientResponseException(WebClientResponseException e) {
+        log.warn("shareit-server ответил ошибкой: {}", e.getMessage());
+        return ResponseEntity.status(e.getRawStatusCode())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(e.getResponseBodyAsByteArray());
+    }
 }
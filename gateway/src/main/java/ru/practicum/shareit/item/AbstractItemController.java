@@ -0,0 +1,90 @@
+package ru.practicum.shareit.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.time.LocalDateTime;
+
+@RequestMapping("/items")
+@Slf4j
+@Validated
+public abstract class AbstractItemController<R> {
+    private static final String X_HEADER = "X-Sharer-User-Id";
+    private final ItemClient<R> itemClient;
+
+    protected AbstractItemController(ItemClient<R> itemClient) {
+        this.itemClient = itemClient;
+    }
+
+    @PostMapping
+    public R create(@Valid @RequestBody ItemDto itemDto,
+                                    @RequestHeader(X_HEADER) long ownerId) {
+        log.info("Получен запрос к эндпоинту: {} /items", "POST");
+        return itemClient.createItem(ownerId, itemDto);
+    }
+
+    @PatchMapping(value = "/{itemId}")
+    public R update(@RequestBody ItemDto itemDto,
+                                    @RequestHeader(X_HEADER) long ownerId,
+                                    @PathVariable(value = "itemId") long itemId) {
+        log.info("Получен запрос к эндпоинту: {} /items/{}", "PATCH", itemId);
+        return itemClient.updateItem(ownerId, itemId, itemDto);
+    }
+
+    @GetMapping(value = "/{itemId}")
+    public R findItemById(@PathVariable(value = "itemId") long itemId,
+                                          @RequestHeader(X_HEADER) Long userId) {
+        log.info("Получен запрос к эндпоинту: {} /items/{}", "GET", itemId);
+        return itemClient.getItemById(userId, itemId);
+    }
+
+    @GetMapping
+    public R findItemsByOwner(@RequestHeader(X_HEADER) long ownerId,
+                                              @PositiveOrZero
+                                              @RequestParam (name = "from", defaultValue = "0") int from,
+                                              @Positive
+                                              @RequestParam(name = "size", defaultValue = "10", required = false) int size) {
+        log.info("Получен запрос к эндпоинту: {} /items", "GET");
+        return itemClient.getItemsByOwner(ownerId, from, size);
+    }
+
+    @GetMapping(value = "/search")
+    public R searchItems(
+            @RequestParam(value = "text", defaultValue = "") String text,
+            @RequestParam(name = "start", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(name = "end", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @PositiveOrZero
+            @RequestParam(name = "from", defaultValue = "0") int from,
+            @Positive
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size) {
+        log.info("Получен запрос к эндпоинту: {} /items/search", "GET");
+        return itemClient.getItemsBySearch(text, start, end, from, size);
+    }
+
+    @GetMapping(value = "/{itemId}/availability")
+    public R findItemAvailability(
+            @PathVariable(value = "itemId") long itemId,
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Получен запрос к эндпоинту: {} /items/{}/availability", "GET", itemId);
+        return itemClient.getItemAvailability(itemId, from, to);
+    }
+
+    @PostMapping(value = "/{itemId}/comment")
+    public R addComment(@PathVariable(value = "itemId") long itemId,
+                                        @RequestHeader(X_HEADER) Long authorId,
+                                        @Valid @RequestBody CommentDto commentDto) {
+        log.info("Получен запрос к эндпоинту: {} {}", "POST",
+                String.format("%d/comment", itemId));
+        return itemClient.addComment(authorId, itemId, commentDto);
+    }
+}
\ No newline at end of file
@@ -1,47 +1,42 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerExchangeFactory;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
-public class ItemClient extends BaseClient {
+public class ItemClient<R> extends BaseClient<R> {
     private static final String API_PREFIX = "/items";
+    private final ItemSearchCache searchCache;
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemClient(ServerExchangeFactory<R> exchangeFactory, ItemSearchCache searchCache) {
+        super(exchangeFactory.create("items", API_PREFIX));
+        this.searchCache = searchCache;
     }
 
-    public ResponseEntity<Object> createItem(long userId, ItemDto itemDto) {
-        return post("", userId, itemDto);
+    public R createItem(long userId, ItemDto itemDto) {
+        return server.afterResponse(post("", userId, itemDto), searchCache::invalidateAll);
     }
 
-    public ResponseEntity<Object> updateItem(long userId, long itemId, ItemDto itemDto) {
+    public R updateItem(long userId, long itemId, ItemDto itemDto) {
         String path = "/" + itemId;
-        return patch(path, userId, itemDto);
+        return server.afterResponse(patch(path, userId, itemDto), searchCache::invalidateAll);
     }
 
-    public ResponseEntity<Object> getItemById(long userId, long itemId) {
+    public R getItemById(long userId, long itemId) {
         String path = "/" + itemId;
         return get(path, userId);
     }
 
-    public ResponseEntity<Object> getItemsByOwner(long userId, int from, int size) {
+    public R getItemsByOwner(long userId, int from, int size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -49,16 +44,34 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getItemsBySearch(String text, int from, int size) {
+    public R getItemsBySearch(String text, LocalDateTime start, LocalDateTime end, int from, int size) {
+        if (start != null || end != null) {
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("text", text);
+            parameters.put("start", start);
+            parameters.put("end", end);
+            parameters.put("from", from);
+            parameters.put("size", size);
+            return get("/search?text={text}&start={start}&end={end}&from={from}&size={size}", null, parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "text", text,
                 "from", from,
                 "size", size
         );
-        return get("/search?text={text}&from={from}&size={size}", null, parameters);
+        return server.cached(searchCache, searchCache.key(text, from, size),
+                () -> get("/search?text={text}&from={from}&size={size}", null, parameters));
+    }
+
+    public R getItemAvailability(long itemId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}", null, parameters);
     }
 
-    public ResponseEntity<Object> addComment(long userId, long itemId, CommentDto commentDto) {
+    public R addComment(long userId, long itemId, CommentDto commentDto) {
         String path = "/" + itemId + "/comment";
         return post(path, userId, commentDto);
     }
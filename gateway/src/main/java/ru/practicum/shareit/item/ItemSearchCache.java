@@ -0,0 +1,138 @@
+package ru.practicum.shareit.item;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.client.ResponseCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Кэш ответов анонимного поиска вещей. Размер ограничен суммарным объёмом тел ответов:
+ * для байтов в режиме passthrough - их длиной, для прочитанных в объекты тел - оценкой
+ * занимаемой ими памяти. Любое создание или изменение вещи через шлюз сбрасывает кэш целиком.
+ */
+@Component
+public class ItemSearchCache implements ResponseCache {
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int MAP_ENTRY_OVERHEAD = 32;
+
+    private final Cache<Key, ResponseEntity<Object>> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public ItemSearchCache(MeterRegistry meterRegistry,
+                           @Value("${shareit-gateway.search-cache.maximum-bytes}") long maximumBytes,
+                           @Value("${shareit-gateway.search-cache.ttl}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Key key, ResponseEntity<Object> response) -> (int) Math.min(Integer.MAX_VALUE,
+                        ENTRY_OVERHEAD + 2L * key.text.length() + estimateSize(response.getBody())))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "items.search");
+        Gauge.builder("cache.weight", cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .tag("cache", "items.search")
+                .baseUnit("bytes")
+                .description("The total size of cached search responses")
+                .register(meterRegistry);
+    }
+
+    public Object key(String text, int from, int size) {
+        return new Key(text.toLowerCase(), from, size);
+    }
+
+    @Override
+    @Nullable
+    public ResponseEntity<Object> getIfPresent(Object key) {
+        return cache.getIfPresent((Key) key);
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public void put(Object key, ResponseEntity<Object> response, long loadedGeneration) {
+        if (response.getStatusCode().is2xxSuccessful()
+                && response.getBody() != null
+                && loadedGeneration == generation.get()) {
+            cache.put((Key) key, response);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Приблизительный объём тела в куче. Прочитанный Jackson ответ состоит из списков, карт,
+     * строк, чисел и логических значений; для остальных объектов берётся размер заголовка.
+     */
+    private static long estimateSize(Object body) {
+        if (body instanceof byte[]) {
+            return OBJECT_OVERHEAD + ((byte[]) body).length;
+        }
+        if (body instanceof CharSequence) {
+            return 2 * OBJECT_OVERHEAD + 2L * ((CharSequence) body).length();
+        }
+        if (body instanceof Map) {
+            long size = 3 * OBJECT_OVERHEAD;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) body).entrySet()) {
+                size += MAP_ENTRY_OVERHEAD + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+            }
+            return size;
+        }
+        if (body instanceof Collection) {
+            long size = 2 * OBJECT_OVERHEAD;
+            for (Object element : (Collection<?>) body) {
+                size += REFERENCE_SIZE + estimateSize(element);
+            }
+            return size;
+        }
+        return body == null ? 0 : OBJECT_OVERHEAD;
+    }
+
+    private static final class Key {
+        private final String text;
+        private final int from;
+        private final int size;
+
+        private Key(String text, int from, int size) {
+            this.text = text;
+            this.from = from;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return from == key.from && size == key.size && text.equals(key.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, from, size);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+public class ReactiveItemController extends AbstractItemController<Mono<ResponseEntity<Object>>> {
+
+    @Autowired
+    public ReactiveItemController(ItemClient<Mono<ResponseEntity<Object>>> itemClient) {
+        super(itemClient);
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Component
+@Profile("!reactive")
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final String X_HEADER = "X-Sharer-User-Id";
+    private final RateLimiter rateLimiter;
+
+    @Autowired
+    public RateLimitInterceptor(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String userId = request.getHeader(X_HEADER);
+        String client = userId != null ? userId : request.getRemoteAddr();
+        rateLimiter.acquire(request.getRequestURI(), client);
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ограничение частоты запросов по ведру токенов на пару (группа эндпоинтов, пользователь).
+ * Вёдра неактивных пользователей вытесняются через {@code idle-timeout}.
+ */
+@Component
+public class RateLimiter {
+    private final RateLimitProperties properties;
+    private final Cache<String, TokenBucket> buckets;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumUsers())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    public void acquire(String path, String client) {
+        String group = groupOf(path);
+        RateLimitProperties.Group limit = properties.getGroups().get(group);
+        if (limit == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(group + ":" + client,
+                key -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            throw new TooManyRequestsException(
+                    String.format("Превышен лимит запросов к /%s", group), retryAfter);
+        }
+    }
+
+    private static String groupOf(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+}
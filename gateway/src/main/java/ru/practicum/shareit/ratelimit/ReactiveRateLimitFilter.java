@@ -0,0 +1,52 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.handler.ErrorDto;
+
+import java.net.InetSocketAddress;
+
+@Component
+@Profile("reactive")
+public class ReactiveRateLimitFilter implements WebFilter {
+    private static final String X_HEADER = "X-Sharer-User-Id";
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ReactiveRateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String userId = request.getHeaders().getFirst(X_HEADER);
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        String client = userId != null ? userId
+                : remoteAddress != null ? remoteAddress.getHostString() : "";
+        try {
+            rateLimiter.acquire(request.getPath().value(), client);
+        } catch (TooManyRequestsException e) {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(Mono.fromCallable(() -> response.bufferFactory().wrap(
+                    objectMapper.writeValueAsBytes(new ErrorDto(e.getMessage())))));
+        }
+        return chain.filter(exchange);
+    }
+}
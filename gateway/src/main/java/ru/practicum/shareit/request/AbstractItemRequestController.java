@@ -0,0 +1,56 @@
+package ru.practicum.shareit.request;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+
+@RequestMapping(path = "/requests")
+@Slf4j
+@Validated
+public abstract class AbstractItemRequestController<R> {
+    private static final String X_HEADER = "X-Sharer-User-Id";
+    private final RequestClient<R> requestClient;
+
+    protected AbstractItemRequestController(RequestClient<R> requestClient) {
+        this.requestClient = requestClient;
+    }
+
+    @PostMapping
+    public R create(@Valid @RequestBody ItemRequestDto requestDto,
+                                    @RequestHeader(X_HEADER) long userId) {
+        return requestClient.createRequest(userId, requestDto);
+    }
+
+    @GetMapping
+    public R getAllUsersRequests(@RequestHeader(X_HEADER) long userId) {
+        return requestClient.getAllUsersRequest(userId);
+    }
+
+    @GetMapping(value = "/all")
+    public R getAllRequests(@PositiveOrZero @RequestParam(name = "from", defaultValue = "0") int from,
+                                            @Positive @RequestParam(name = "size",
+                                                    required = false,
+                                                    defaultValue = "10") int size,
+                                            @RequestParam(name = "cursor", required = false) String cursor,
+                                            @RequestHeader(X_HEADER) long userId) {
+        return requestClient.getAllRequests(userId, from, size, cursor);
+    }
+
+    @GetMapping(value = "/{requestId}")
+    public R getRequestById(@PathVariable(value = "requestId") long requestId,
+                                            @RequestHeader(X_HEADER) long userId) {
+        return requestClient.getRequestById(userId, requestId);
+    }
+
+    @GetMapping(value = "/{requestId}/suggestions")
+    public R getSuggestions(@PathVariable(value = "requestId") long requestId,
+                                                 @RequestHeader(X_HEADER) long userId) {
+        return requestClient.getSuggestions(userId, requestId);
+    }
+}
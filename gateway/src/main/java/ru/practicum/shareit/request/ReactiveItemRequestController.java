@@ -0,0 +1,17 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+public class ReactiveItemRequestController extends AbstractItemRequestController<Mono<ResponseEntity<Object>>> {
+
+    @Autowired
+    public ReactiveItemRequestController(RequestClient<Mono<ResponseEntity<Object>>> requestClient) {
+        super(requestClient);
+    }
+}
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import javax.validation.Valid;
+
+@RequestMapping(path = "/users")
+@Slf4j
+@Validated
+public abstract class AbstractUserController<R> {
+
+    private final UserClient<R> userClient;
+
+    protected AbstractUserController(UserClient<R> userClient) {
+        this.userClient = userClient;
+    }
+
+    @GetMapping
+    public R getUsers() {
+        log.info("Получен запрос к эндпоинту: {} {}", "GET", "/users");
+        return userClient.getUsers();
+    }
+
+    @GetMapping(value = "/{id}")
+    public R findUserById(@PathVariable(value = "id") long userId) {
+        log.info("Получен запрос к эндпоинту: {} /users/{}", "GET",userId);
+        return userClient.getUserById(userId);
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public R create(@Valid @RequestBody UserDto userDto) {
+        log.info("Получен запрос к эндпоинту: {} /users", "POST");
+        return userClient.createUser(userDto);
+    }
+
+    @PatchMapping(value = "/{id}")
+    public R update(@PathVariable(value = "id") long userId,
+                                    @RequestBody
+                                    UserDto userDto) {
+        log.info("Получен запрос к эндпоинту: {} /users/{}", "PATCH", userId);
+        return userClient.updateUser(userId, userDto);
+    }
+
+    @DeleteMapping(value = "/{id}")
+    public R removeUser(@PathVariable(value = "id") long userId) {
+        log.info("Получен запрос к эндпоинту: {} /users/{}", "DELETE", userId);
+        return userClient.deleteUser(userId);
+    }
+}
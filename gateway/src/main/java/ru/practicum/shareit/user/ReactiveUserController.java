@@ -0,0 +1,17 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+public class ReactiveUserController extends AbstractUserController<Mono<ResponseEntity<Object>>> {
+
+    @Autowired
+    public ReactiveUserController(UserClient<Mono<ResponseEntity<Object>>> userClient) {
+        super(userClient);
+    }
+}
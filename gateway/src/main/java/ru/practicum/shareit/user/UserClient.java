@@ -1,47 +1,45 @@
 package ru.practicum.shareit.user;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerExchangeFactory;
+import ru.practicum.shareit.item.ItemSearchCache;
 import ru.practicum.shareit.user.dto.UserDto;
 
 @Service
-public class UserClient extends BaseClient {
+public class UserClient<R> extends BaseClient<R> {
     private static final String API_PREFIX = "/users";
+    private final ItemSearchCache searchCache;
 
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    @Autowired
+    public UserClient(ServerExchangeFactory<R> exchangeFactory, ItemSearchCache searchCache) {
+        super(exchangeFactory.create("users", API_PREFIX));
+        this.searchCache = searchCache;
     }
 
-    public ResponseEntity<Object> getUsers() {
+    public R getUsers() {
         return get("");
     }
 
-    public ResponseEntity<Object> getUserById(long userId) {
+    public R getUserById(long userId) {
         String path = "/" + userId;
         return get(path);
     }
 
-    public ResponseEntity<Object> createUser(UserDto userDto) {
+    public R createUser(UserDto userDto) {
         return post("", userDto);
     }
 
-    public ResponseEntity<Object> updateUser(long userId, UserDto userDto) {
+    public R updateUser(long userId, UserDto userDto) {
         String path = "/" + userId;
-        return patch(path, userDto);
+        // Результаты поиска содержат владельца вещи
+        return server.afterResponse(patch(path, userDto), searchCache::invalidateAll);
     }
 
-    public ResponseEntity<Object> deleteUser(long userId) {
+    public R deleteUser(long userId) {
         String path = "/" + userId;
-        return delete(path);
+        // Вещи пользователя удаляются на сервере каскадно
+        return server.afterResponse(delete(path), searchCache::invalidateAll);
     }
 }
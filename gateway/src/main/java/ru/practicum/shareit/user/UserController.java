@@ -1,53 +1,16 @@
 package ru.practicum.shareit.user;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.*;
-import ru.practicum.shareit.user.dto.UserDto;
-
-import javax.validation.Valid;
+import org.springframework.web.bind.annotation.RestController;
 
 @RestController
-@RequestMapping(path = "/users")
-@RequiredArgsConstructor
-@Slf4j
-@Validated
-public class UserController {
-
-    private final UserClient userClient;
-
-    @GetMapping
-    public ResponseEntity<Object> getUsers() {
-        log.info("Получен запрос к эндпоинту: {} {}", "GET", "/users");
-        return userClient.getUsers();
-    }
-
-    @GetMapping(value = "/{id}")
-    public ResponseEntity<Object> findUserById(@PathVariable(value = "id") long userId) {
-        log.info("Получен запрос к эндпоинту: {} /users/{}", "GET",userId);
-        return userClient.getUserById(userId);
-    }
-
-    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Object> create(@Valid @RequestBody UserDto userDto) {
-        log.info("Получен запрос к эндпоинту: {} /users", "POST");
-        return userClient.createUser(userDto);
-    }
-
-    @PatchMapping(value = "/{id}")
-    public ResponseEntity<Object> update(@PathVariable(value = "id") long userId,
-                                    @RequestBody
-                                    UserDto userDto) {
-        log.info("Получен запрос к эндпоинту: {} /users/{}", "PATCH", userId);
-        return userClient.updateUser(userId, userDto);
-    }
+@Profile("!reactive")
+public class UserController extends AbstractUserController<ResponseEntity<Object>> {
 
-    @DeleteMapping(value = "/{id}")
-    public ResponseEntity<Object> removeUser(@PathVariable(value = "id") long userId) {
-        log.info("Получен запрос к эндпоинту: {} /users/{}", "DELETE", userId);
-        return userClient.deleteUser(userId);
+    @Autowired
+    public UserController(UserClient<ResponseEntity<Object>> userClient) {
+        super(userClient);
     }
 }
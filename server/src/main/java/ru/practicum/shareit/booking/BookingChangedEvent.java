@@ -0,0 +1,47 @@
+package ru.practicum.shareit.booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * Созданное или изменённое бронирование, которое индекс занятости применяет после фиксации транзакции.
+ */
+public class BookingChangedEvent implements BookingIntervalView {
+    private final Long id;
+    private final Long itemId;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final Status status;
+
+    public BookingChangedEvent(Booking booking) {
+        this.id = booking.getId();
+        this.itemId = booking.getItem().getId();
+        this.start = booking.getStart();
+        this.end = booking.getEnd();
+        this.status = booking.getStatus();
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public Long getItemId() {
+        return itemId;
+    }
+
+    @Override
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    @Override
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    @Override
+    public Status getStatus() {
+        return status;
+    }
+}
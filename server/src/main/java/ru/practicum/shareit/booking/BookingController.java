@@ -2,11 +2,15 @@ package ru.practicum.shareit.booking;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.pagination.KeysetCursor;
 
 
 @RestController
@@ -58,12 +62,13 @@ public class BookingController {
             @RequestParam(value = "state", defaultValue = "ALL") String state,
             @RequestHeader(X_HEADER) Long userId,
             @RequestParam(name = "from", defaultValue = "0") int from,
-            @RequestParam(name = "size", defaultValue = "10", required = false) int size) {
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
         log.info("Получен запрос к эндпоинту: {} /bookings", "GET");
-        return new ResponseEntity<>(
-                bookingService.getBookings(state, userId, from, size),
-                HttpStatus.OK
-        );
+        Slice<BookingDto> bookings = cursor == null
+                ? bookingService.getBookings(state, userId, from, size)
+                : bookingService.getBookingsByCursor(state, userId, cursor, size);
+        return new ResponseEntity<>(bookings.getContent(), nextCursorHeaders(bookings), HttpStatus.OK);
     }
 
     @GetMapping(value = "/owner")
@@ -71,11 +76,21 @@ public class BookingController {
             @RequestParam(value = "state", defaultValue = "ALL") String state,
             @RequestHeader(X_HEADER) Long userId,
             @RequestParam(name = "from", defaultValue = "0") int from,
-            @RequestParam(name = "size", defaultValue = "10", required = false) int size) {
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
         log.info("Получен запрос к эндпоинту: {} /bookings/owner", "GET");
-        return new ResponseEntity<>(
-                bookingService.getBookingsOwner(state, userId, from, size),
-                HttpStatus.OK
-        );
+        Slice<BookingDto> bookings = cursor == null
+                ? bookingService.getBookingsOwner(state, userId, from, size)
+                : bookingService.getBookingsOwnerByCursor(state, userId, cursor, size);
+        return new ResponseEntity<>(bookings.getContent(), nextCursorHeaders(bookings), HttpStatus.OK);
+    }
+
+    private HttpHeaders nextCursorHeaders(Slice<BookingDto> bookings) {
+        HttpHeaders headers = new HttpHeaders();
+        if (bookings.hasNext()) {
+            BookingDto last = bookings.getContent().get(bookings.getNumberOfElements() - 1);
+            headers.set(KeysetCursor.HEADER, new KeysetCursor(last.getStart(), last.getId()).encode());
+        }
+        return headers;
     }
 }
@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import ru.practicum.shareit.exception.CreateException;
 import ru.practicum.shareit.exception.PermissionException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.booking.dto.ErrorDto;
@@ -36,6 +37,16 @@ public class BookingExceptionHandler {
         );
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<?> handleCreateException(final CreateException e) {
+        log.warn(e.getMessage());
+        return new ResponseEntity<>(
+                new ErrorDto("Ошибка при создании бронирования", e.getMessage()),
+                HttpStatus.CONFLICT
+        );
+    }
+
     @ExceptionHandler
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<?> handleValidationException(final ValidationException e) {
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * Строка для построения индекса занятости. Класс, а не интерфейсная проекция,
+ * чтобы не создавать прокси на каждое из миллионов бронирований.
+ */
+public class BookingInterval implements BookingIntervalView {
+    private final Long id;
+    private final Long itemId;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final Status status;
+
+    public BookingInterval(Long id, Long itemId, LocalDateTime start, LocalDateTime end, Status status) {
+        this.id = id;
+        this.itemId = itemId;
+        this.start = start;
+        this.end = end;
+        this.status = status;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public Long getItemId() {
+        return itemId;
+    }
+
+    @Override
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    @Override
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    @Override
+    public Status getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,116 @@
+package ru.practicum.shareit.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Индекс занятости вещей: для каждой вещи хранит дерево интервалов
+ * незавершённых бронирований в статусах WAITING и APPROVED.
+ * Индекс обслуживает фильтр поиска по периоду; пересечения при бронировании отсекает только база
+ * под блокировкой строки вещи. До первого построения занятость проверяется запросом к базе.
+ * Изменения применяются после фиксации транзакции, перестроение собирает новую карту
+ * и подменяет текущую, повторяя изменения, пришедшие за время сборки.
+ */
+@Component
+@Slf4j
+public class BookingIntervalIndex {
+    public static final Set<Status> BLOCKING_STATUSES = Collections.unmodifiableSet(
+            EnumSet.of(Status.WAITING, Status.APPROVED));
+
+    private final BookingRepository bookingRepository;
+    private final Object rebuildLock = new Object();
+    private volatile Map<Long, IntervalTree> trees = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private List<BookingIntervalView> pending;
+
+    @Autowired
+    public BookingIntervalIndex(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            pending = new ArrayList<>();
+        }
+        Map<Long, IntervalTree> rebuilt = new ConcurrentHashMap<>();
+        try {
+            List<BookingInterval> bookings = bookingRepository.findIntervalsByStatusInAndEndAfter(
+                    BLOCKING_STATUSES, LocalDateTime.now());
+            bookings.forEach(booking -> apply(rebuilt, booking));
+            synchronized (rebuildLock) {
+                pending.forEach(booking -> apply(rebuilt, booking));
+                trees = rebuilt;
+                ready = true;
+            }
+            log.info("Индекс занятости построен: {} бронирований, {} вещей", bookings.size(), rebuilt.size());
+        } finally {
+            synchronized (rebuildLock) {
+                pending = null;
+            }
+        }
+    }
+
+    public boolean isFree(Long itemId, LocalDateTime start, LocalDateTime end) {
+        if (!ready) {
+            return !bookingRepository.existsOverlapping(itemId, BLOCKING_STATUSES, start, end);
+        }
+        IntervalTree tree = trees.get(itemId);
+        if (tree == null) {
+            return true;
+        }
+        synchronized (tree) {
+            return !tree.overlaps(start, end);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent booking) {
+        synchronized (rebuildLock) {
+            apply(trees, booking);
+            if (pending != null) {
+                pending.add(booking);
+            }
+        }
+    }
+
+    /**
+     * Вызывается под {@code rebuildLock} или на ещё не опубликованной карте,
+     * поэтому дерево не может быть удалено из карты между проверкой и вставкой.
+     */
+    private static void apply(Map<Long, IntervalTree> trees, BookingIntervalView booking) {
+        if (BLOCKING_STATUSES.contains(booking.getStatus())) {
+            IntervalTree tree = trees.computeIfAbsent(booking.getItemId(), id -> new IntervalTree());
+            synchronized (tree) {
+                tree.removeEndedBefore(LocalDateTime.now());
+                tree.insert(booking.getId(), booking.getStart(), booking.getEnd());
+            }
+            return;
+        }
+        IntervalTree tree = trees.get(booking.getItemId());
+        if (tree == null) {
+            return;
+        }
+        synchronized (tree) {
+            tree.remove(booking.getId(), booking.getStart());
+            tree.removeEndedBefore(LocalDateTime.now());
+            if (tree.size() == 0) {
+                trees.remove(booking.getItemId());
+            }
+        }
+    }
+}
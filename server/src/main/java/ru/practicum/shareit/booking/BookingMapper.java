@@ -26,4 +26,6 @@ public abstract class BookingMapper {
 
     @Mapping(target = "bookerId", source = "booking.booker.id")
     public abstract BookingShortDto toBookingShortDto(Booking booking);
+
+    public abstract BookingShortDto toBookingShortDto(BookingShortView booking);
 }
@@ -1,60 +1,85 @@
 package ru.practicum.shareit.booking;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    public List<Booking> findByBookerId(Long bookerId, Pageable pageable);
+    @Query("select b from Booking b " +
+            "where b.booker.id = :bookerId " +
+            "and b.status in :#{#filter.statuses} " +
+            "and b.start > :#{#filter.startAfter} and b.start < :#{#filter.startBefore} " +
+            "and b.end > :#{#filter.endAfter} and b.end < :#{#filter.endBefore} " +
+            "and (b.start < :start or (b.start = :start and b.id < :id)) " +
+            "order by b.start desc, b.id desc")
+    public Slice<Booking> findByBookerIdBefore(@Param("bookerId") Long bookerId,
+                                              @Param("filter") BookingStateFilter filter,
+                                              @Param("start") LocalDateTime start,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
 
-    public List<Booking> findByBookerIdAndStartIsBeforeAndEndIsAfter(Long bookerId,
-                                                                     LocalDateTime start,
-                                                                     LocalDateTime end,
-                                                                     Pageable pageable);
-
-    public List<Booking> findByBookerIdAndStartIsBeforeAndEndIsBefore(Long bookerId,
-                                                                      LocalDateTime start,
-                                                                      LocalDateTime end,
-                                                                      Pageable pageable);
-
-    public List<Booking> findByBookerIdAndStartIsAfter(Long bookerId,
-                                                       LocalDateTime start,
-                                                       Pageable pageable);
-
-    public List<Booking> findByBookerIdAndStatus(Long bookerId,
-                                                 Status status,
-                                                 Pageable pageable);
-
-    public List<Booking> findByItem_Owner_id(Long ownerId,
+    @Query("select b from Booking b " +
+            "where b.item.owner.id = :ownerId " +
+            "and b.status in :#{#filter.statuses} " +
+            "and b.start > :#{#filter.startAfter} and b.start < :#{#filter.startBefore} " +
+            "and b.end > :#{#filter.endAfter} and b.end < :#{#filter.endBefore} " +
+            "and (b.start < :start or (b.start = :start and b.id < :id)) " +
+            "order by b.start desc, b.id desc")
+    public Slice<Booking> findByOwnerIdBefore(@Param("ownerId") Long ownerId,
+                                             @Param("filter") BookingStateFilter filter,
+                                             @Param("start") LocalDateTime start,
+                                             @Param("id") Long id,
                                              Pageable pageable);
 
-    public List<Booking> findByItem_Owner_IdAndStartIsBeforeAndEndIsAfter(
-            Long ownerId,
-            LocalDateTime start,
-            LocalDateTime end,
-            Pageable pageable
-    );
-
-    public List<Booking> findByItem_Owner_IdAndEndIsBefore(Long ownerId,
-                                                           LocalDateTime end,
-                                                           Pageable pageable);
+    @Query(value = "select b.booking_id as id, b.item_id as itemId, b.booker_id as bookerId, " +
+            "b.start_date as start, b.end_date as \"end\" " +
+            "from (select bk.*, row_number() over " +
+            "(partition by bk.item_id order by bk.end_date desc, bk.booking_id desc) as rn " +
+            "from bookings bk " +
+            "where bk.item_id in (:itemIds) and bk.start_date < :now) b " +
+            "where b.rn = 1", nativeQuery = true)
+    public List<BookingShortView> findLastBookingsByItemIds(@Param("itemIds") Collection<Long> itemIds,
+                                                            @Param("now") LocalDateTime now);
 
-    public List<Booking> findByItem_Owner_IdAndStartIsAfter(Long ownerId,
-                                                            LocalDateTime start,
-                                                            Pageable pageable);
+    @Query(value = "select b.booking_id as id, b.item_id as itemId, b.booker_id as bookerId, " +
+            "b.start_date as start, b.end_date as \"end\" " +
+            "from (select bk.*, row_number() over " +
+            "(partition by bk.item_id order by bk.start_date asc, bk.booking_id asc) as rn " +
+            "from bookings bk " +
+            "where bk.item_id in (:itemIds) and bk.start_date > :now and bk.status <> 'REJECTED') b " +
+            "where b.rn = 1", nativeQuery = true)
+    public List<BookingShortView> findNextBookingsByItemIds(@Param("itemIds") Collection<Long> itemIds,
+                                                            @Param("now") LocalDateTime now);
 
-    public List<Booking> findByItem_Owner_IdAndStatus(Long ownerId,
-                                                      Status status,
-                                                      Pageable pageable);
+    @Query("select new ru.practicum.shareit.booking.BookingInterval(b.id, b.item.id, b.start, b.end, b.status) " +
+            "from Booking b " +
+            "where b.status in :statuses and b.end > :moment")
+    public List<BookingInterval> findIntervalsByStatusInAndEndAfter(
+            @Param("statuses") Collection<Status> statuses,
+            @Param("moment") LocalDateTime moment);
 
-    public Booking findFirstByItem_IdAndStartBeforeOrderByEndDesc(Long itemId,
-                                                            LocalDateTime end);
+    @Query("select count(b) > 0 from Booking b " +
+            "where b.item.id = :itemId and b.status in :statuses " +
+            "and b.start < :end and b.end > :start")
+    public boolean existsOverlapping(@Param("itemId") Long itemId,
+                                     @Param("statuses") Collection<Status> statuses,
+                                     @Param("start") LocalDateTime start,
+                                     @Param("end") LocalDateTime end);
 
-    public Booking findFirstByItem_IdAndStartAfterAndStatusNotOrderByStartAsc(Long itemId,
-                                                                              LocalDateTime start,
-                                                                              Status status);
+    @Query("select b from Booking b " +
+            "where b.item.id = :itemId and b.status in :statuses " +
+            "and b.start < :to and b.end > :from " +
+            "order by b.start asc")
+    public List<Booking> findByItemIdAndStatusInBetween(@Param("itemId") Long itemId,
+                                                        @Param("statuses") Collection<Status> statuses,
+                                                        @Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to);
 
     public Booking findFirstByItem_idAndBooker_IdAndEndBefore(Long itemId,
                                                            Long userId,
@@ -1,10 +1,9 @@
 package ru.practicum.shareit.booking;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
 
-import java.util.List;
-
 public interface BookingService {
     public BookingDto addBooking(BookingInputDto bookingDto, Long bookerId);
 
@@ -12,7 +11,11 @@ public interface BookingService {
 
     public BookingDto getBookingById(Long bookingId, Long userId);
 
-    public List<BookingDto> getBookings(String state, Long userId, Integer from, Integer size);
+    public Slice<BookingDto> getBookings(String state, Long userId, Integer from, Integer size);
+
+    public Slice<BookingDto> getBookingsOwner(String state, Long ownerId, Integer from, Integer size);
+
+    public Slice<BookingDto> getBookingsByCursor(String state, Long userId, String cursor, Integer size);
 
-    public List<BookingDto> getBookingsOwner(String state, Long ownerId, Integer from, Integer size);
+    public Slice<BookingDto> getBookingsOwnerByCursor(String state, Long ownerId, String cursor, Integer size);
 }
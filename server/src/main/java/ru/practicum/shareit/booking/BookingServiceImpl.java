@@ -1,23 +1,26 @@
 package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.exception.CreateException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.PermissionException;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.pagination.KeysetCursor;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserExistenceCache;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class BookingServiceImpl implements BookingService {
@@ -25,23 +28,30 @@ public class BookingServiceImpl implements BookingService {
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
     private final BookingMapper bookingMapper;
+    private final UserExistenceCache userExistenceCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public BookingServiceImpl(BookingRepository bookingRepository,
                               UserRepository userRepository,
                               ItemRepository itemRepository,
-                              BookingMapper bookingMapper) {
+                              BookingMapper bookingMapper,
+                              UserExistenceCache userExistenceCache,
+                              ApplicationEventPublisher eventPublisher) {
         this.bookingRepository = bookingRepository;
         this.userRepository = userRepository;
         this.itemRepository = itemRepository;
         this.bookingMapper = bookingMapper;
+        this.userExistenceCache = userExistenceCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public BookingDto addBooking(BookingInputDto bookingDto, Long userId) {
         User user = getUserOrElseThrow(userRepository.findById(userId), userId);
         Item item = getAvailableItemOrElseThrow(
-                itemRepository.findById(bookingDto.getItemId()),
+                itemRepository.findByIdForUpdate(bookingDto.getItemId()),
                 bookingDto.getItemId()
         );
         Booking booking = bookingMapper.toBooking(bookingDto, user, item);
@@ -55,12 +65,21 @@ public class BookingServiceImpl implements BookingService {
         } else if (booking.getStart().equals(booking.getEnd())) {
             throw new ValidationException("Время начала аренды совпадает со временем окончания");
         }
-        return bookingMapper.toBookingDto(bookingRepository.save(booking));
+        if (bookingRepository.existsOverlapping(item.getId(), BookingIntervalIndex.BLOCKING_STATUSES,
+                booking.getStart(), booking.getEnd())) {
+            throw new CreateException(String.format(
+                    "Вещь с id = %d уже забронирована на период с %s по %s",
+                    item.getId(), booking.getStart(), booking.getEnd()));
+        }
+        Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(savedBooking));
+        return bookingMapper.toBookingDto(savedBooking);
     }
 
     @Override
+    @Transactional
     public BookingDto updateBooking(Long bookingId, Long userId, Boolean approved) {
-        userExistOrElseThrow(userRepository.findById(userId), userId);
+        userExistOrElseThrow(userId);
         Booking booking = getBookingOrElseThrow(
                 bookingRepository.findById(bookingId),
                 bookingId
@@ -95,12 +114,14 @@ public class BookingServiceImpl implements BookingService {
                 throw new ValidationException("Подтвердить бронирование может только владелец вещи!");
             }
         }
-        return bookingMapper.toBookingDto(bookingRepository.save(booking));
+        Booking updatedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(updatedBooking));
+        return bookingMapper.toBookingDto(updatedBooking);
     }
 
     @Override
     public BookingDto getBookingById(Long bookingId, Long userId) {
-        userExistOrElseThrow(userRepository.findById(userId), userId);
+        userExistOrElseThrow(userId);
         Booking booking = getBookingOrElseThrow(
                 bookingRepository.findById(bookingId),
                 bookingId
@@ -114,121 +135,41 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public List<BookingDto> getBookings(String state, Long userId, Integer from, Integer size) {
-        userExistOrElseThrow(userRepository.findById(userId), userId);
-        Sort sort = Sort.by(Sort.Direction.DESC, "start");
-        PageRequest pageRequest = PageRequest.of(from / size, size, sort);
-        List<Booking> bookings;
-        switch (state) {
-            case "ALL":
-                bookings = bookingRepository.findByBookerId(userId, pageRequest);
-                break;
-            case "CURRENT":
-                    bookings = bookingRepository.findByBookerIdAndStartIsBeforeAndEndIsAfter(
-                        userId,
-                        LocalDateTime.now(),
-                        LocalDateTime.now(),
-                        pageRequest
-                );
-                break;
-            case "PAST":
-                bookings = bookingRepository.findByBookerIdAndStartIsBeforeAndEndIsBefore(
-                        userId,
-                        LocalDateTime.now(),
-                        LocalDateTime.now(),
-                        pageRequest
-                );
-                break;
-            case "FUTURE":
-                bookings = bookingRepository.findByBookerIdAndStartIsAfter(
-                        userId,
-                        LocalDateTime.now(),
-                        pageRequest
-                );
-                break;
-            case "WAITING":
-                bookings = bookingRepository.findByBookerIdAndStatus(
-                        userId,
-                        Status.WAITING,
-                        pageRequest
-                );
-                break;
-            case "REJECTED":
-                bookings = bookingRepository.findByBookerIdAndStatus(
-                        userId,
-                        Status.REJECTED,
-                        pageRequest
-                );
-                break;
-            default:
-                throw new ValidationException(
-                        "Unknown state: " + state
-                );
-        }
-        return bookings
-                .stream()
-                .map(bookingMapper::toBookingDto)
-                .collect(Collectors.toList());
+    public Slice<BookingDto> getBookings(String state, Long userId, Integer from, Integer size) {
+        userExistOrElseThrow(userId);
+        BookingStateFilter filter = BookingStateFilter.of(state, LocalDateTime.now());
+        return bookingRepository.findByBookerIdBefore(
+                userId, filter, BookingStateFilter.MAX, Long.MAX_VALUE, OffsetPageRequest.of(from, size))
+                .map(bookingMapper::toBookingDto);
     }
 
     @Override
-    public List<BookingDto> getBookingsOwner(String state, Long ownerId, Integer from, Integer size) {
-        userExistOrElseThrow(userRepository.findById(ownerId), ownerId);
-        Sort sort = Sort.by(Sort.Direction.DESC, "start");
-        PageRequest pageRequest = PageRequest.of(from / size, size, sort);
-        List<Booking> bookings;
-        switch (state) {
-            case "ALL":
-                bookings = bookingRepository.findByItem_Owner_id(
-                        ownerId,
-                        pageRequest
-                );
-                break;
-            case "CURRENT":
-                bookings = bookingRepository.findByItem_Owner_IdAndStartIsBeforeAndEndIsAfter(
-                        ownerId,
-                        LocalDateTime.now(),
-                        LocalDateTime.now(),
-                        pageRequest
-                );
-                break;
-            case "PAST":
-                bookings = bookingRepository.findByItem_Owner_IdAndEndIsBefore(
-                        ownerId,
-                        LocalDateTime.now(),
-                        pageRequest
-                );
-                break;
-            case "FUTURE":
-                bookings = bookingRepository.findByItem_Owner_IdAndStartIsAfter(
-                        ownerId,
-                        LocalDateTime.now(),
-                        pageRequest
-                );
-                break;
-            case "WAITING":
-                bookings = bookingRepository.findByItem_Owner_IdAndStatus(
-                        ownerId,
-                        Status.WAITING,
-                        pageRequest
-                );
-                break;
-            case "REJECTED":
-                bookings = bookingRepository.findByItem_Owner_IdAndStatus(
-                        ownerId,
-                        Status.REJECTED,
-                        pageRequest
-                );
-                break;
-            default:
-                throw new ValidationException(
-                        "Unknown state: " + state
-                );
-        }
-        return bookings
-                .stream()
-                .map(bookingMapper::toBookingDto)
-                .collect(Collectors.toList());
+    public Slice<BookingDto> getBookingsOwner(String state, Long ownerId, Integer from, Integer size) {
+        userExistOrElseThrow(ownerId);
+        BookingStateFilter filter = BookingStateFilter.of(state, LocalDateTime.now());
+        return bookingRepository.findByOwnerIdBefore(
+                ownerId, filter, BookingStateFilter.MAX, Long.MAX_VALUE, OffsetPageRequest.of(from, size))
+                .map(bookingMapper::toBookingDto);
+    }
+
+    @Override
+    public Slice<BookingDto> getBookingsByCursor(String state, Long userId, String cursor, Integer size) {
+        userExistOrElseThrow(userId);
+        BookingStateFilter filter = BookingStateFilter.of(state, LocalDateTime.now());
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        return bookingRepository.findByBookerIdBefore(
+                userId, filter, position.getPosition(), position.getId(), OffsetPageRequest.of(0, size))
+                .map(bookingMapper::toBookingDto);
+    }
+
+    @Override
+    public Slice<BookingDto> getBookingsOwnerByCursor(String state, Long ownerId, String cursor, Integer size) {
+        userExistOrElseThrow(ownerId);
+        BookingStateFilter filter = BookingStateFilter.of(state, LocalDateTime.now());
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        return bookingRepository.findByOwnerIdBefore(
+                ownerId, filter, position.getPosition(), position.getId(), OffsetPageRequest.of(0, size))
+                .map(bookingMapper::toBookingDto);
     }
 
     private Booking getBookingOrElseThrow(Optional<Booking> optionalBooking,
@@ -258,10 +199,10 @@ public class BookingServiceImpl implements BookingService {
         ));
     }
 
-    private void userExistOrElseThrow(Optional<User> optionalUser, Long userId) {
-        optionalUser.orElseThrow(
-                () -> new NotFoundException(userId)
-        );
+    private void userExistOrElseThrow(Long userId) {
+        if (!userExistenceCache.exists(userId)) {
+            throw new NotFoundException(userId);
+        }
     }
 
     private Boolean userIsOwnerOfItem(Item item, Long userId) {
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.booking;
+
+import ru.practicum.shareit.exception.ValidationException;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Условия выборки бронирований для параметра {@code state}: допустимые статусы и границы
+ * начала и окончания. Неограниченные границы заменяются крайними датами, чтобы все состояния
+ * обслуживались одним запросом без проверок параметров на null.
+ */
+public class BookingStateFilter {
+    public static final LocalDateTime MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    public static final LocalDateTime MAX = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final Set<Status> ANY_STATUS = EnumSet.allOf(Status.class);
+
+    private final Collection<Status> statuses;
+    private final LocalDateTime startAfter;
+    private final LocalDateTime startBefore;
+    private final LocalDateTime endAfter;
+    private final LocalDateTime endBefore;
+
+    private BookingStateFilter(Collection<Status> statuses,
+                               LocalDateTime startAfter, LocalDateTime startBefore,
+                               LocalDateTime endAfter, LocalDateTime endBefore) {
+        this.statuses = statuses;
+        this.startAfter = startAfter;
+        this.startBefore = startBefore;
+        this.endAfter = endAfter;
+        this.endBefore = endBefore;
+    }
+
+    public static BookingStateFilter of(String state, LocalDateTime now) {
+        switch (state) {
+            case "ALL":
+                return new BookingStateFilter(ANY_STATUS, MIN, MAX, MIN, MAX);
+            case "CURRENT":
+                return new BookingStateFilter(ANY_STATUS, MIN, now, now, MAX);
+            case "PAST":
+                return new BookingStateFilter(ANY_STATUS, MIN, MAX, MIN, now);
+            case "FUTURE":
+                return new BookingStateFilter(ANY_STATUS, now, MAX, MIN, MAX);
+            case "WAITING":
+                return new BookingStateFilter(EnumSet.of(Status.WAITING), MIN, MAX, MIN, MAX);
+            case "REJECTED":
+                return new BookingStateFilter(EnumSet.of(Status.REJECTED), MIN, MAX, MIN, MAX);
+            default:
+                throw new ValidationException(
+                        "Unknown state: " + state
+                );
+        }
+    }
+
+    public Collection<Status> getStatuses() {
+        return statuses;
+    }
+
+    public LocalDateTime getStartAfter() {
+        return startAfter;
+    }
+
+    public LocalDateTime getStartBefore() {
+        return startBefore;
+    }
+
+    public LocalDateTime getEndAfter() {
+        return endAfter;
+    }
+
+    public LocalDateTime getEndBefore() {
+        return endBefore;
+    }
+}
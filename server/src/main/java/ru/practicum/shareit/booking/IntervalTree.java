@@ -0,0 +1,199 @@
+package ru.practicum.shareit.booking;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * АВЛ-дерево полуинтервалов [start, end), упорядоченных по (start, id).
+ * Каждый узел хранит максимальный и минимальный end своего поддерева,
+ * что позволяет отвечать на запрос пересечения за O(log n).
+ */
+class IntervalTree {
+    private Node root;
+    private int size;
+
+    public void insert(Long id, LocalDateTime start, LocalDateTime end) {
+        root = insert(root, new Node(id, start, end));
+    }
+
+    public void remove(Long id, LocalDateTime start) {
+        root = remove(root, start, id);
+    }
+
+    public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return overlaps(root, from, to);
+    }
+
+    public void removeEndedBefore(LocalDateTime moment) {
+        List<Node> ended = new ArrayList<>();
+        collectEndedBefore(root, moment, ended);
+        ended.forEach(node -> remove(node.id, node.start));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Классический поиск в дереве интервалов: если в левом поддереве есть интервал, заканчивающийся
+     * после {@code from}, но пересечения там нет, то он начинается не раньше {@code to},
+     * а правое поддерево начинается ещё позже. Поэтому достаточно одного пути от корня.
+     */
+    private static boolean overlaps(Node node, LocalDateTime from, LocalDateTime to) {
+        while (node != null) {
+            if (node.start.isBefore(to) && node.end.isAfter(from)) {
+                return true;
+            }
+            if (node.left != null && node.left.maxEnd.isAfter(from)) {
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return false;
+    }
+
+    private static void collectEndedBefore(Node node, LocalDateTime moment, List<Node> ended) {
+        if (node == null || !node.minEnd.isBefore(moment)) {
+            return;
+        }
+        collectEndedBefore(node.left, moment, ended);
+        if (node.end.isBefore(moment)) {
+            ended.add(node);
+        }
+        collectEndedBefore(node.right, moment, ended);
+    }
+
+    private Node insert(Node node, Node inserted) {
+        if (node == null) {
+            size++;
+            return inserted;
+        }
+        int compare = compare(inserted.start, inserted.id, node);
+        if (compare < 0) {
+            node.left = insert(node.left, inserted);
+        } else if (compare > 0) {
+            node.right = insert(node.right, inserted);
+        } else {
+            return node;
+        }
+        return balance(node);
+    }
+
+    private Node remove(Node node, LocalDateTime start, Long id) {
+        if (node == null) {
+            return null;
+        }
+        int compare = compare(start, id, node);
+        if (compare < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (compare > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            return balance(successor);
+        }
+        return balance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private static int compare(LocalDateTime start, Long id, Node node) {
+        int compare = start.compareTo(node.start);
+        return compare != 0 ? compare : id.compareTo(node.id);
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.maxEnd = node.end;
+        node.minEnd = node.end;
+        for (Node child : new Node[]{node.left, node.right}) {
+            if (child != null) {
+                if (child.maxEnd.isAfter(node.maxEnd)) {
+                    node.maxEnd = child.maxEnd;
+                }
+                if (child.minEnd.isBefore(node.minEnd)) {
+                    node.minEnd = child.minEnd;
+                }
+            }
+        }
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+        private final Long id;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private LocalDateTime maxEnd;
+        private LocalDateTime minEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(Long id, LocalDateTime start, LocalDateTime end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+            this.minEnd = end;
+        }
+    }
+}
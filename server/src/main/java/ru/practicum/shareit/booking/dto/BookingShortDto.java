@@ -1,51 +0,0 @@
-package ru.practicum.shareit.booking.dto;
-
-import lombok.AccessLevel;
-import lombok.Builder;
-import lombok.experimental.FieldDefaults;
-
-import java.time.LocalDateTime;
-
-@Builder
-@FieldDefaults(level = AccessLevel.PRIVATE)
-public class BookingShortDto {
-    Long id;
-
-    Long bookerId;
-
-    LocalDateTime start;
-
-    LocalDateTime end;
-
-    public Long getId() {
-        return id;
-    }
-
-    public void setId(Long id) {
-        this.id = id;
-    }
-
-    public Long getBookerId() {
-        return bookerId;
-    }
-
-    public void setBookerId(Long bookerId) {
-        this.bookerId = bookerId;
-    }
-
-    public LocalDateTime getStart() {
-        return start;
-    }
-
-    public void setStart(LocalDateTime start) {
-        this.start = start;
-    }
-
-    public LocalDateTime getEnd() {
-        return end;
-    }
-
-    public void setEnd(LocalDateTime end) {
-        this.end = end;
-    }
-}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+/**
+ * Пакетные вставки через {@link PreparedStatement#addBatch()}. Транзакцию фиксирует вызывающий.
+ */
+class BatchInsertWriter implements RowWriter {
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int pending;
+    private long rows;
+
+    BatchInsertWriter(Connection connection, String table, String[] columns, int batchSize) throws SQLException {
+        this.statement = connection.prepareStatement(String.format("INSERT INTO %s (%s) VALUES (%s)",
+                table, String.join(", ", columns), String.join(", ", Collections.nCopies(columns.length, "?"))));
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void write(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            statement.setObject(i + 1, value instanceof LocalDateTime ? Timestamp.valueOf((LocalDateTime) value) : value);
+        }
+        statement.addBatch();
+        rows++;
+        if (++pending == batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            statement.close();
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (pending > 0) {
+            statement.executeBatch();
+            pending = 0;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package ru.practicum.shareit.datagen;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Генератор синтетических данных (профиль {@code datagen}, включает {@code reset}). Таблицы
+ * пересоздаются при старте, затем заполняются через {@link SyntheticDataLoader}, после чего
+ * приложение завершается.
+ */
+@Component
+@Profile("datagen")
+public class DataGenerator implements CommandLineRunner {
+    private final DataSource dataSource;
+    private final ConfigurableApplicationContext context;
+    private final SyntheticDataLoader loader;
+
+    @Autowired
+    public DataGenerator(DataSource dataSource,
+                         ConfigurableApplicationContext context,
+                         @Value("${shareit.datagen.users}") int users,
+                         @Value("${shareit.datagen.requests}") int requests,
+                         @Value("${shareit.datagen.items}") int items,
+                         @Value("${shareit.datagen.bookings}") int bookings,
+                         @Value("${shareit.datagen.comments}") int comments,
+                         @Value("${shareit.datagen.batch-size}") int batchSize,
+                         @Value("${shareit.datagen.seed}") long seed) {
+        this.dataSource = dataSource;
+        this.context = context;
+        this.loader = new SyntheticDataLoader(users, requests, items, bookings, comments, batchSize, seed);
+    }
+
+    @Override
+    public void run(String... args) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                loader.load(connection);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+        System.exit(SpringApplication.exit(context));
+    }
+}
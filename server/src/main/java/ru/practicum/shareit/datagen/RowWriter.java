@@ -0,0 +1,12 @@
+package ru.practicum.shareit.datagen;
+
+import java.sql.SQLException;
+
+interface RowWriter extends AutoCloseable {
+    void write(Object... values) throws SQLException;
+
+    long rows();
+
+    @Override
+    void close() throws SQLException;
+}
@@ -0,0 +1,181 @@
+package ru.practicum.shareit.datagen;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import ru.practicum.shareit.booking.Status;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+/**
+ * Общие распределения синтетических данных: их используют генератор {@code datagen},
+ * фикстуры и заполнение базы в бенчмарках. Тексты не длиннее колонок schema.sql,
+ * даты отсчитываются от {@code now}, последовательность значений определяется зерном.
+ */
+public class SyntheticData {
+    private static final String[] WORDS = {
+        "дрель", "аккумуляторная", "перфоратор", "палатка", "велосипед", "горный", "книга", "настольная",
+        "игра", "проектор", "штатив", "лестница", "стремянка", "пила", "циркулярная", "набор", "ключей",
+        "в", "отличном", "состоянии", "с", "зарядкой", "и", "кейсом", "для", "дома", "дачи", "похода",
+        "нужна", "на", "выходные", "ищу", "детский", "самокат", "фотоаппарат", "объектив", "лодка", "удочка"
+    };
+    private static final long PAST_SECONDS = ChronoUnit.DAYS.getDuration().getSeconds() * 365;
+    private static final long FUTURE_SECONDS = ChronoUnit.DAYS.getDuration().getSeconds() * 90;
+    private static final long HOUR_SECONDS = ChronoUnit.HOURS.getDuration().getSeconds();
+    private static final long MAX_BOOKING_SECONDS = ChronoUnit.DAYS.getDuration().getSeconds() * 3;
+
+    private final SplittableRandom random;
+    private final LocalDateTime now;
+
+    public SyntheticData(long seed) {
+        this(seed, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    public SyntheticData(long seed, LocalDateTime now) {
+        this.random = new SplittableRandom(seed);
+        this.now = now;
+    }
+
+    /**
+     * Случайный идентификатор из диапазона 1..count.
+     */
+    public long id(int count) {
+        return random.nextInt(count) + 1L;
+    }
+
+    public String userName(long id) {
+        return "user" + id;
+    }
+
+    public String userEmail(long id) {
+        return "user" + id + "@example.com";
+    }
+
+    public String requestDescription() {
+        return text(6, 100);
+    }
+
+    public LocalDateTime requestCreated() {
+        return recent(PAST_SECONDS);
+    }
+
+    public String itemName() {
+        return text(2, 50);
+    }
+
+    public String itemDescription() {
+        return text(5, 50);
+    }
+
+    public boolean itemAvailable() {
+        return random.nextInt(10) > 0;
+    }
+
+    /**
+     * Каждая десятая вещь создана по запросу.
+     */
+    public Long itemRequestId(int requests) {
+        return requests > 0 && random.nextInt(10) == 0 ? id(requests) : null;
+    }
+
+    /**
+     * Бронирующий - случайный пользователь, но не владелец вещи.
+     */
+    public long bookerId(long ownerId, int users) {
+        long bookerId = id(users);
+        return bookerId == ownerId && users > 1 ? bookerId % users + 1 : bookerId;
+    }
+
+    public String commentText() {
+        return text(10, 100);
+    }
+
+    public LocalDateTime commentCreated() {
+        return recent(PAST_SECONDS);
+    }
+
+    /**
+     * Расписание {@code bookings} бронирований для {@code items} вещей: бронирования одной вещи
+     * в основном идут друг за другом без пересечений в окне от года назад до трёх месяцев вперёд.
+     */
+    public Bookings bookings(int items, int bookings) {
+        return new Bookings(items, bookings);
+    }
+
+    /**
+     * Момент в прошлом не дальше {@code maxAgeSeconds}; свежие моменты встречаются чаще.
+     */
+    private LocalDateTime recent(long maxAgeSeconds) {
+        return now.minusSeconds(Math.min(maxAgeSeconds, exponential(maxAgeSeconds / 4)));
+    }
+
+    private long exponential(long mean) {
+        return (long) (-Math.log(1 - random.nextDouble()) * mean);
+    }
+
+    private String text(int words, int maxLength) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (text.length() + word.length() + 1 > maxLength) {
+                break;
+            }
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(word);
+        }
+        return text.toString();
+    }
+
+    public final class Bookings {
+        private final long meanDuration;
+        private final long meanGap;
+        private final long[] cursors;
+
+        private Bookings(int items, int bookings) {
+            long window = PAST_SECONDS + FUTURE_SECONDS;
+            long cycle = items == 0 ? window : Math.max(HOUR_SECONDS * 2, window * items / Math.max(bookings, 1));
+            meanDuration = Math.min(MAX_BOOKING_SECONDS, cycle / 2);
+            meanGap = Math.max(HOUR_SECONDS, cycle - meanDuration);
+            cursors = new long[items + 1];
+            for (int id = 1; id <= items; id++) {
+                cursors[id] = -PAST_SECONDS + (long) (random.nextDouble() * meanGap);
+            }
+        }
+
+        /**
+         * Следующее бронирование вещи {@code itemId} (1..items).
+         */
+        public Slot next(int itemId) {
+            long start = cursors[itemId] + exponential(meanGap);
+            long end = start + Math.max(HOUR_SECONDS, exponential(meanDuration));
+            if (end > FUTURE_SECONDS) {
+                start = -PAST_SECONDS + exponential(meanGap);
+                end = start + Math.max(HOUR_SECONDS, exponential(meanDuration));
+            }
+            cursors[itemId] = end;
+            return new Slot(now.plusSeconds(start), now.plusSeconds(end), status(start, end));
+        }
+
+        private Status status(long start, long end) {
+            int roll = random.nextInt(10);
+            if (end <= 0) {
+                return roll < 8 ? Status.APPROVED : roll < 9 ? Status.REJECTED : Status.CANCELED;
+            }
+            if (start <= 0) {
+                return Status.APPROVED;
+            }
+            return roll < 5 ? Status.APPROVED : roll < 9 ? Status.WAITING : Status.REJECTED;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Slot {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final Status status;
+    }
+}
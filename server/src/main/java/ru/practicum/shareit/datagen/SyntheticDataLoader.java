@@ -0,0 +1,137 @@
+package ru.practicum.shareit.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Заполняет пустые таблицы синтетическими данными из {@link SyntheticData} с идентификаторами
+ * от единицы. В PostgreSQL данные передаются через COPY, в остальные базы - пакетными вставками.
+ * Используется генератором {@code datagen} и бенчмарками.
+ */
+@Slf4j
+public class SyntheticDataLoader {
+    private final int users;
+    private final int requests;
+    private final int items;
+    private final int bookings;
+    private final int comments;
+    private final int batchSize;
+    private final SyntheticData data;
+
+    public SyntheticDataLoader(int users, int requests, int items, int bookings, int comments,
+                               int batchSize, long seed) {
+        this.users = users;
+        this.requests = requests;
+        this.items = items;
+        this.bookings = bookings;
+        this.comments = comments;
+        this.batchSize = batchSize;
+        this.data = new SyntheticData(seed);
+    }
+
+    /**
+     * Загружает данные и сдвигает счётчики идентификаторов за последние строки.
+     * Сам ничего не фиксирует: вызывающий выключает автофиксацию, фиксирует загрузку целиком
+     * и откатывает её при ошибке.
+     */
+    public void load(Connection connection) throws SQLException {
+        boolean copy = connection.isWrapperFor(PGConnection.class);
+        log.info("Генерация данных ({}): {} пользователей, {} запросов, {} вещей, {} бронирований, {} комментариев",
+                copy ? "COPY" : "пакетные вставки", users, requests, items, bookings, comments);
+        generateUsers(connection, copy);
+        generateRequests(connection, copy);
+        long[] owners = generateItems(connection, copy);
+        generateBookings(connection, copy, owners);
+        generateComments(connection, copy);
+        restartIdentity(connection, "users", "user_id", users);
+        restartIdentity(connection, "requests", "request_id", requests);
+        restartIdentity(connection, "items", "item_id", items);
+        restartIdentity(connection, "bookings", "booking_id", bookings);
+        restartIdentity(connection, "comments", "comment_id", comments);
+    }
+
+    private void generateUsers(Connection connection, boolean copy) throws SQLException {
+        long started = System.nanoTime();
+        try (RowWriter writer = writer(connection, copy, "users", "user_id", "user_name", "user_email")) {
+            for (long id = 1; id <= users; id++) {
+                writer.write(id, data.userName(id), data.userEmail(id));
+            }
+            logDone("users", writer, started);
+        }
+    }
+
+    private void generateRequests(Connection connection, boolean copy) throws SQLException {
+        long started = System.nanoTime();
+        try (RowWriter writer = writer(connection, copy, "requests",
+                "request_id", "request_description", "requestor_id", "request_created")) {
+            for (long id = 1; id <= requests; id++) {
+                writer.write(id, data.requestDescription(), data.id(users), data.requestCreated());
+            }
+            logDone("requests", writer, started);
+        }
+    }
+
+    private long[] generateItems(Connection connection, boolean copy) throws SQLException {
+        long started = System.nanoTime();
+        long[] owners = new long[items + 1];
+        try (RowWriter writer = writer(connection, copy, "items",
+                "item_id", "item_name", "item_description", "item_owner_id", "item_available", "item_request_id")) {
+            for (int id = 1; id <= items; id++) {
+                owners[id] = data.id(users);
+                writer.write((long) id, data.itemName(), data.itemDescription(), owners[id],
+                        data.itemAvailable(), data.itemRequestId(requests));
+            }
+            logDone("items", writer, started);
+        }
+        return owners;
+    }
+
+    private void generateBookings(Connection connection, boolean copy, long[] owners) throws SQLException {
+        long started = System.nanoTime();
+        SyntheticData.Bookings schedule = data.bookings(items, bookings);
+        try (RowWriter writer = writer(connection, copy, "bookings",
+                "booking_id", "start_date", "end_date", "item_id", "booker_id", "status")) {
+            for (long id = 1; id <= bookings; id++) {
+                int itemId = (int) data.id(items);
+                SyntheticData.Slot slot = schedule.next(itemId);
+                writer.write(id, slot.getStart(), slot.getEnd(), (long) itemId,
+                        data.bookerId(owners[itemId], users), slot.getStatus().name());
+            }
+            logDone("bookings", writer, started);
+        }
+    }
+
+    private void generateComments(Connection connection, boolean copy) throws SQLException {
+        long started = System.nanoTime();
+        try (RowWriter writer = writer(connection, copy, "comments",
+                "comment_id", "comment_text", "item_id", "author_id", "created")) {
+            for (long id = 1; id <= comments; id++) {
+                writer.write(id, data.commentText(), data.id(items), data.id(users), data.commentCreated());
+            }
+            logDone("comments", writer, started);
+        }
+    }
+
+    private RowWriter writer(Connection connection, boolean copy, String table, String... columns)
+            throws SQLException {
+        return copy
+                ? new CopyWriter(connection, table, columns, batchSize)
+                : new BatchInsertWriter(connection, table, columns, batchSize);
+    }
+
+    private void restartIdentity(Connection connection, String table, String column, long rows) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format("ALTER TABLE %s ALTER COLUMN %s RESTART WITH %d", table, column, rows + 1));
+        }
+    }
+
+    private void logDone(String table, RowWriter writer, long started) {
+        double seconds = (System.nanoTime() - started) / 1e9;
+        log.info("{}: {} строк за {} с ({} строк/с)", table, writer.rows(),
+                String.format("%.1f", seconds), Math.round(writer.rows() / Math.max(seconds, 1e-3)));
+    }
+}
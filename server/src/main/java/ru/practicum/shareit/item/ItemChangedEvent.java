@@ -0,0 +1,50 @@
+package ru.practicum.shareit.item;
+
+/**
+ * Изменение вещи, которое нужно отразить в поисковом индексе после фиксации транзакции.
+ * Поля копируются в момент публикации, чтобы слушатель не обращался к сущности вне сессии.
+ */
+public class ItemChangedEvent {
+    private final Long itemId;
+    private final String name;
+    private final String description;
+    private final boolean available;
+    private final boolean removed;
+
+    private ItemChangedEvent(Long itemId, String name, String description, boolean available, boolean removed) {
+        this.itemId = itemId;
+        this.name = name;
+        this.description = description;
+        this.available = available;
+        this.removed = removed;
+    }
+
+    public static ItemChangedEvent saved(Item item) {
+        return new ItemChangedEvent(item.getId(), item.getName(), item.getDescription(),
+                Boolean.TRUE.equals(item.getAvailable()), false);
+    }
+
+    public static ItemChangedEvent removed(Long itemId) {
+        return new ItemChangedEvent(itemId, null, null, false, true);
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public boolean isRemoved() {
+        return removed;
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.item;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -9,6 +10,8 @@ import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/items")
 @Slf4j
@@ -58,10 +61,23 @@ public class ItemController {
     @GetMapping(value = "/search")
     public ResponseEntity<?> searchItems(
             @RequestParam(value = "text", defaultValue = "") String text,
+            @RequestParam(name = "start", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(name = "end", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
             @RequestParam(name = "from", defaultValue = "0") int from,
             @RequestParam(name = "size", defaultValue = "10", required = false) int size) {
         log.info("Получен запрос к эндпоинту: {} /items/search", "GET");
-        return new ResponseEntity<>(itemService.getItemsBySearch(text, from, size), HttpStatus.OK);
+        return new ResponseEntity<>(itemService.getItemsBySearch(text, start, end, from, size), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/{itemId}/availability")
+    public ResponseEntity<?> findItemAvailability(
+            @PathVariable(value = "itemId") long itemId,
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Получен запрос к эндпоинту: {} /items/{}/availability", "GET", itemId);
+        return new ResponseEntity<>(itemService.getItemAvailability(itemId, from, to), HttpStatus.OK);
     }
 
     @PostMapping(value = "/{itemId}/comment")
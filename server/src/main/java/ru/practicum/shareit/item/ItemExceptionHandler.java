@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.practicum.shareit.exception.CommentCreateException;
 import ru.practicum.shareit.exception.CreateException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.user.dto.ErrorDto;
 
 @RestControllerAdvice("ru.practicum.shareit.item")
@@ -46,6 +47,16 @@ public class ItemExceptionHandler {
         );
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<?> handleValidationException(final ValidationException e) {
+        log.warn(e.getMessage());
+        return new ResponseEntity<>(
+                new ErrorDto("Ошибка валидации", e.getMessage()),
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
     @ExceptionHandler(CommentCreateException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<?> handleCommentCreateException(
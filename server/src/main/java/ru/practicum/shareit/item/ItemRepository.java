@@ -2,19 +2,39 @@ package ru.practicum.shareit.item;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
+    /**
+     * Блокирует строку вещи до конца транзакции, сериализуя проверку пересечений бронирований.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id = :itemId")
+    Optional<Item> findByIdForUpdate(@Param("itemId") Long itemId);
+
     List<Item> findByOwnerId(Long ownerId, Pageable pageable);
 
     List<Item> findByRequestId(Long requestId);
 
-    @Query(" select i from Item i " +
-            "where lower(i.name) like lower(concat('%', :search, '%')) " +
-            " or lower(i.description) like lower(concat('%', :search, '%')) " +
-            " and i.available = true")
-    List<Item> getItemsBySearchQuery(@Param("search") String text, Pageable pageable);
+    List<Item> findByRequestIdIn(Collection<Long> requestIds);
+
+    @Query("select new ru.practicum.shareit.item.ItemSearchView(i.id, i.name, i.description) " +
+            "from Item i where i.available = true order by i.id")
+    List<ItemSearchView> findAllSearchable();
+
+    /**
+     * Поиск подстроки без индекса, пока {@link ItemSearchIndex} не построен.
+     * Спецсимволы LIKE в шаблоне экранируются символом '!'.
+     */
+    @Query("select i.id from Item i where i.available = true " +
+            "and (lower(i.name) like :pattern escape '!' or lower(i.description) like :pattern escape '!') " +
+            "order by i.id")
+    List<Long> findSearchableIdsByPattern(@Param("pattern") String pattern);
 }
@@ -0,0 +1,242 @@
+package ru.practicum.shareit.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Инвертированный индекс доступных вещей по триграммам названия и описания.
+ * Запросы от трёх символов отвечаются пересечением списков триграмм с проверкой подстроки,
+ * более короткие - проверкой подстроки по всем документам. Списки хранятся в примитивных массивах.
+ * Индекс меняется только после фиксации транзакции; перестроение собирает новый индекс
+ * в стороне и подменяет текущий, повторяя изменения, пришедшие за время сборки.
+ * До первого построения поиск выполняется запросом к базе.
+ */
+@Component
+@Slf4j
+public class ItemSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final ItemRepository itemRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Snapshot snapshot = new Snapshot();
+    private volatile boolean ready;
+    private List<Consumer<Snapshot>> pending;
+
+    @Autowired
+    public ItemSearchIndex(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Snapshot rebuilt = new Snapshot();
+        boolean built = false;
+        try {
+            for (ItemSearchView item : itemRepository.findAllSearchable()) {
+                rebuilt.add(item.getId(), document(item.getName(), item.getDescription()));
+            }
+            rebuilt.trim();
+            built = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (built) {
+                    pending.forEach(change -> change.accept(rebuilt));
+                    snapshot = rebuilt;
+                    ready = true;
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Поисковый индекс построен: {} вещей, {} триграмм",
+                rebuilt.documents.size(), rebuilt.postings.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.isRemoved() || !event.isAvailable()) {
+            remove(event.getItemId());
+        } else {
+            change(index -> {
+                index.remove(event.getItemId());
+                index.add(event.getItemId(), document(event.getName(), event.getDescription()));
+            });
+        }
+    }
+
+    public void remove(Long itemId) {
+        change(index -> index.remove(itemId));
+    }
+
+    public List<Long> search(String text, int from, int size) {
+        return search(text, itemId -> true, from, size);
+    }
+
+    public List<Long> search(String text, Predicate<Long> filter, int from, int size) {
+        String query = normalize(text);
+        if (query.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (!ready) {
+            return page(itemRepository.findSearchableIdsByPattern(pattern(query)), filter, from, size);
+        }
+        lock.readLock().lock();
+        try {
+            Snapshot index = snapshot;
+            List<LongPostings> lists = new ArrayList<>();
+            if (query.length() < GRAM_LENGTH) {
+                lists.add(index.all);
+            } else {
+                for (String gram : grams(query)) {
+                    LongPostings ids = index.postings.get(gram);
+                    if (ids == null) {
+                        return Collections.emptyList();
+                    }
+                    lists.add(ids);
+                }
+                lists.sort(Comparator.comparingInt(LongPostings::size));
+            }
+            LongPostings smallest = lists.get(0);
+            List<LongPostings> others = lists.subList(1, lists.size());
+
+            List<Long> result = new ArrayList<>();
+            int skipped = 0;
+            for (int i = 0; i < smallest.size(); i++) {
+                long id = smallest.get(i);
+                if (!containsAll(others, id) || !index.documents.get(id).contains(query)) {
+                    continue;
+                }
+                if (!filter.test(id)) {
+                    continue;
+                }
+                if (skipped < from) {
+                    skipped++;
+                    continue;
+                }
+                result.add(id);
+                if (result.size() == size) {
+                    break;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void change(Consumer<Snapshot> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(snapshot);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<Long> page(List<Long> ids, Predicate<Long> filter, int from, int size) {
+        return ids.stream()
+                .filter(filter)
+                .skip(from)
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    private static String pattern(String query) {
+        return "%" + query.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    private static boolean containsAll(List<LongPostings> lists, long id) {
+        for (LongPostings ids : lists) {
+            if (!ids.contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String document(String name, String description) {
+        return normalize(name) + FIELD_SEPARATOR + normalize(description);
+    }
+
+    private static Set<String> grams(String document) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= document.length(); i++) {
+            String gram = document.substring(i, i + GRAM_LENGTH);
+            if (gram.indexOf(FIELD_SEPARATOR) < 0) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase();
+    }
+
+    private static final class Snapshot {
+        private final Map<String, LongPostings> postings = new HashMap<>();
+        private final Map<Long, String> documents = new HashMap<>();
+        private final LongPostings all = new LongPostings();
+
+        private void add(Long itemId, String document) {
+            documents.put(itemId, document);
+            all.add(itemId);
+            grams(document).forEach(
+                    gram -> postings.computeIfAbsent(gram, key -> new LongPostings()).add(itemId)
+            );
+        }
+
+        private void remove(Long itemId) {
+            String document = documents.remove(itemId);
+            if (document == null) {
+                return;
+            }
+            all.remove(itemId);
+            for (String gram : grams(document)) {
+                LongPostings ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(itemId);
+                    if (ids.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+
+        private void trim() {
+            postings.values().forEach(LongPostings::trim);
+            all.trim();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.item;
+
+/**
+ * Строка для построения поискового индекса. Класс, а не интерфейсная проекция:
+ * на каждую строку интерфейсной проекции Spring Data создаёт прокси, что при
+ * сотнях тысяч вещей не помещается в память.
+ */
+public class ItemSearchView {
+    private final Long id;
+    private final String name;
+    private final String description;
+
+    public ItemSearchView(Long id, String name, String description) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
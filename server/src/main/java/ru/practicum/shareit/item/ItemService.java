@@ -1,7 +1,9 @@
 package ru.practicum.shareit.item;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.FreeIntervalDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
@@ -13,7 +15,9 @@ public interface ItemService {
 
     List<ItemDto> getItemsByOwner(Long ownerId, Integer from, Integer size);
 
-    List<ItemDto> getItemsBySearch(String text, Integer from, Integer size);
+    List<ItemDto> getItemsBySearch(String text, LocalDateTime start, LocalDateTime end, Integer from, Integer size);
+
+    List<FreeIntervalDto> getItemAvailability(Long itemId, LocalDateTime from, LocalDateTime to);
 
     void removeItem(Long itemId, Long ownerId);
 
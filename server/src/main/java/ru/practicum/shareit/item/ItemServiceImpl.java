@@ -1,21 +1,29 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
 import ru.practicum.shareit.booking.BookingMapper;
 import ru.practicum.shareit.booking.BookingRepository;
-import ru.practicum.shareit.booking.Status;
+import ru.practicum.shareit.booking.BookingShortView;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.exception.CommentCreateException;
+import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.FreeIntervalDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.PermissionException;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.request.ItemRequestChangedEvent;
+import ru.practicum.shareit.request.ItemRequestMatcher;
 import ru.practicum.shareit.user.UserMapper;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.User;
@@ -24,7 +32,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,6 +50,13 @@ public class ItemServiceImpl implements ItemService {
 
     private final CommentMapper commentMapper;
 
+    private final ItemSearchIndex itemSearchIndex;
+
+    private final BookingIntervalIndex bookingIntervalIndex;
+
+    private final ItemRequestMatcher itemRequestMatcher;
+
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public ItemServiceImpl(ItemRepository itemRepository,
@@ -49,7 +66,11 @@ public class ItemServiceImpl implements ItemService {
                            UserMapper userMapper,
                            ItemMapper itemMapper,
                            BookingMapper bookingMapper,
-                           CommentMapper commentMapper) {
+                           CommentMapper commentMapper,
+                           ItemSearchIndex itemSearchIndex,
+                           BookingIntervalIndex bookingIntervalIndex,
+                           ItemRequestMatcher itemRequestMatcher,
+                           ApplicationEventPublisher eventPublisher) {
         this.itemRepository = itemRepository;
         this.userRepository = userRepository;
         this.bookingRepository = bookingRepository;
@@ -58,9 +79,14 @@ public class ItemServiceImpl implements ItemService {
         this.itemMapper = itemMapper;
         this.bookingMapper = bookingMapper;
         this.commentMapper = commentMapper;
+        this.itemSearchIndex = itemSearchIndex;
+        this.bookingIntervalIndex = bookingIntervalIndex;
+        this.itemRequestMatcher = itemRequestMatcher;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public void removeItem(Long itemId, Long ownerId) {
         Item item = getItemOrElseThrow(itemRepository.findById(itemId),
                 itemId);
@@ -68,19 +94,27 @@ public class ItemServiceImpl implements ItemService {
             throw new PermissionException("Нет прав на удаление");
         }
         itemRepository.deleteById(itemId);
+        eventPublisher.publishEvent(ItemChangedEvent.removed(itemId));
     }
 
     @Override
+    @Transactional
     public ItemDto addItem(ItemDto itemDto, Long ownerId) {
         User owner = getUserOrElseThrow(userRepository.findById(ownerId), ownerId);
         itemDto.setOwner(userMapper.toUserDto(owner));
         Item updateItem = itemMapper.toItem(itemDto);
         Item item = itemRepository.save(updateItem);
+        eventPublisher.publishEvent(ItemChangedEvent.saved(item));
+        if (item.getRequestId() != null) {
+            eventPublisher.publishEvent(ItemRequestChangedEvent.closed(item.getRequestId()));
+        }
+        itemRequestMatcher.onItemAdded(item);
 
         return itemMapper.toItemDto(item);
     }
 
     @Override
+    @Transactional
     public ItemDto updateItem(ItemDto itemDto, Long itemId, Long ownerId) {
         Item item = getItemOrElseThrow(
                 itemRepository.findById(itemId),
@@ -97,7 +131,9 @@ public class ItemServiceImpl implements ItemService {
         if (itemDto.getAvailable() != null) {
             item.setAvailable(itemDto.getAvailable());
         }
-        return itemMapper.toItemDto(itemRepository.save(item));
+        Item updatedItem = itemRepository.save(item);
+        eventPublisher.publishEvent(ItemChangedEvent.saved(updatedItem));
+        return itemMapper.toItemDto(updatedItem);
     }
 
     @Override
@@ -105,7 +141,7 @@ public class ItemServiceImpl implements ItemService {
         Item item = getItemOrElseThrow(itemRepository.findById(itemId), itemId);
         ItemDto itemDto = itemMapper.toItemDto(item);
         if (userId.equals(item.getOwner().getId())) {
-            setBookingForItemDto(itemDto);
+            setBookingsForItemDtos(List.of(itemDto));
         } else {
             itemDto.setLastBooking(null);
             itemDto.setNextBooking(null);
@@ -123,32 +159,41 @@ public class ItemServiceImpl implements ItemService {
     @Override
     public List<ItemDto> getItemsByOwner(Long ownerId, Integer from, Integer size) {
         Sort sort = Sort.by(Sort.Direction.DESC, "id");
-        PageRequest pageRequest = PageRequest.of(from / size, size, sort);
+        Pageable pageRequest = OffsetPageRequest.of(from, size, sort);
         List<ItemDto> items = itemRepository.findByOwnerId(ownerId, pageRequest)
                 .stream()
                 .map(itemMapper::toItemDto)
                 .sorted(Comparator.comparing(ItemDto::getId))
                 .collect(Collectors.toList());
-        items.forEach(this::setBookingForItemDto);
-        items.forEach(
-                itemDto -> itemDto.setComments(
-                        commentRepository.findAllByItem_Id(itemDto.getId(),
-                                        Sort.by(Sort.Direction.DESC, "created"))
-                                .stream()
-                                .map(commentMapper::toCommentDto)
-                                .collect(Collectors.toList()))
-        );
+        setBookingsForItemDtos(items);
+        setCommentsForItemDtos(items);
         return items;
     }
 
     @Override
-    public List<ItemDto> getItemsBySearch(String text, Integer from, Integer size) {
-        Sort sort = Sort.by(Sort.Direction.ASC, "id");
-        PageRequest pageRequest = PageRequest.of(from / size, size, sort);
+    public List<ItemDto> getItemsBySearch(String text, LocalDateTime start, LocalDateTime end,
+                                          Integer from, Integer size) {
+        if ((start == null) != (end == null)) {
+            throw new ValidationException("Начало и окончание периода задаются вместе");
+        }
+        if (start != null && !start.isBefore(end)) {
+            throw new ValidationException("Начало периода должно быть раньше его окончания");
+        }
         if ((text != null) && (!text.isEmpty()) && (!text.isBlank())) {
-            text = text.toLowerCase();
-            return itemRepository.getItemsBySearchQuery(text, pageRequest)
+            List<Long> itemIds = start == null
+                    ? itemSearchIndex.search(text, from, size)
+                    : itemSearchIndex.search(text,
+                            itemId -> bookingIntervalIndex.isFree(itemId, start, end),
+                            from, size);
+            Map<Long, Item> items = itemRepository.findAllById(itemIds)
                     .stream()
+                    .collect(Collectors.toMap(Item::getId, Function.identity()));
+            itemIds.stream()
+                    .filter(itemId -> !items.containsKey(itemId))
+                    .forEach(itemSearchIndex::remove);
+            return itemIds.stream()
+                    .map(items::get)
+                    .filter(item -> item != null && item.getAvailable())
                     .map(itemMapper::toItemDto)
                     .collect(Collectors.toList());
         } else {
@@ -156,6 +201,32 @@ public class ItemServiceImpl implements ItemService {
         }
     }
 
+    @Override
+    public List<FreeIntervalDto> getItemAvailability(Long itemId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new ValidationException("Начало периода должно быть раньше его окончания");
+        }
+        Item item = getItemOrElseThrow(itemRepository.findById(itemId), itemId);
+        List<FreeIntervalDto> intervals = new ArrayList<>();
+        if (!item.getAvailable()) {
+            return intervals;
+        }
+        LocalDateTime freeFrom = from;
+        for (Booking booking : bookingRepository.findByItemIdAndStatusInBetween(
+                itemId, BookingIntervalIndex.BLOCKING_STATUSES, from, to)) {
+            if (booking.getStart().isAfter(freeFrom)) {
+                intervals.add(new FreeIntervalDto(freeFrom, booking.getStart()));
+            }
+            if (booking.getEnd().isAfter(freeFrom)) {
+                freeFrom = booking.getEnd();
+            }
+        }
+        if (freeFrom.isBefore(to)) {
+            intervals.add(new FreeIntervalDto(freeFrom, to));
+        }
+        return intervals;
+    }
+
     @Override
     public List<CommentDto> getCommentsByItemId(Long itemId) {
         return commentRepository.findAllByItem_Id(itemId, Sort.by(Sort.Direction.DESC, "created"))
@@ -199,31 +270,45 @@ public class ItemServiceImpl implements ItemService {
         );
     }
 
-    private void setBookingForItemDto(ItemDto itemDto) {
-        Booking lastBooking = bookingRepository.findFirstByItem_IdAndStartBeforeOrderByEndDesc(
-                itemDto.getId(),
-                LocalDateTime.now()
-        );
-        BookingShortDto lastBookingDto;
-        if (lastBooking == null) {
-            lastBookingDto = null;
-        } else {
-            lastBookingDto = bookingMapper.toBookingShortDto(lastBooking);
+    private void setCommentsForItemDtos(List<ItemDto> itemDtos) {
+        if (itemDtos.isEmpty()) {
+            return;
         }
-
-        Booking nextBooking = bookingRepository.findFirstByItem_IdAndStartAfterAndStatusNotOrderByStartAsc(
-                itemDto.getId(),
-                LocalDateTime.now(),
-                Status.REJECTED
+        Map<Long, List<CommentDto>> comments = commentRepository.findAllByItemIdIn(
+                        itemDtos.stream()
+                                .map(ItemDto::getId)
+                                .collect(Collectors.toList()))
+                .stream()
+                .map(commentMapper::toCommentDto)
+                .collect(Collectors.groupingBy(CommentDto::getItemId));
+        itemDtos.forEach(
+                itemDto -> itemDto.setComments(
+                        comments.getOrDefault(itemDto.getId(), new ArrayList<>()))
         );
-        BookingShortDto nextBookingDto;
-        if (nextBooking == null) {
-            nextBookingDto = null;
-        } else {
-            nextBookingDto = bookingMapper.toBookingShortDto(nextBooking);
+    }
+
+    private void setBookingsForItemDtos(List<ItemDto> itemDtos) {
+        if (itemDtos.isEmpty()) {
+            return;
         }
-        itemDto.setLastBooking(lastBookingDto);
-        itemDto.setNextBooking(nextBookingDto);
+        List<Long> itemIds = itemDtos.stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, BookingShortDto> lastBookings = bookingRepository.findLastBookingsByItemIds(itemIds, now)
+                .stream()
+                .collect(Collectors.toMap(
+                        BookingShortView::getItemId,
+                        bookingMapper::toBookingShortDto));
+        Map<Long, BookingShortDto> nextBookings = bookingRepository.findNextBookingsByItemIds(itemIds, now)
+                .stream()
+                .collect(Collectors.toMap(
+                        BookingShortView::getItemId,
+                        bookingMapper::toBookingShortDto));
+        itemDtos.forEach(itemDto -> {
+            itemDto.setLastBooking(lastBookings.get(itemDto.getId()));
+            itemDto.setNextBooking(nextBookings.get(itemDto.getId()));
+        });
     }
 
 }
\ No newline at end of file
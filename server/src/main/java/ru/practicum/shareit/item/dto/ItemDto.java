@@ -1,116 +0,0 @@
-package ru.practicum.shareit.item.dto;
-
-import lombok.AccessLevel;
-import lombok.Builder;
-import lombok.experimental.FieldDefaults;
-import ru.practicum.shareit.booking.dto.BookingShortDto;
-import ru.practicum.shareit.user.dto.UserDto;
-
-import java.util.List;
-import java.util.Objects;
-
-@Builder
-@FieldDefaults(level = AccessLevel.PRIVATE)
-public class ItemDto {
-    Long id;
-
-    String name;
-
-    String description;
-
-    UserDto owner;
-
-    Boolean available;
-
-    public void setAvailable(Boolean available) {
-        this.available = available;
-    }
-
-    public Long getRequestId() {
-        return requestId;
-    }
-
-    public void setRequestId(Long requestId) {
-        this.requestId = requestId;
-    }
-
-    Long requestId;
-
-    List<CommentDto> comments;
-
-    public List<CommentDto> getComments() {
-        return comments;
-    }
-
-    public void setComments(List<CommentDto> comments) {
-        this.comments = comments;
-    }
-
-    BookingShortDto lastBooking;
-    BookingShortDto nextBooking;
-
-    public BookingShortDto getLastBooking() {
-        return lastBooking;
-    }
-
-    public void setLastBooking(BookingShortDto lastBooking) {
-        this.lastBooking = lastBooking;
-    }
-
-    public BookingShortDto getNextBooking() {
-        return nextBooking;
-    }
-
-    public void setNextBooking(BookingShortDto nextBooking) {
-        this.nextBooking = nextBooking;
-    }
-
-    public Long getId() {
-        return id;
-    }
-
-    public void setId(Long id) {
-        this.id = id;
-    }
-
-    public String getName() {
-        return name;
-    }
-
-    public void setName(String name) {
-        this.name = name;
-    }
-
-    public String getDescription() {
-        return description;
-    }
-
-    public void setDescription(String description) {
-        this.description = description;
-    }
-
-    public UserDto getOwner() {
-        return owner;
-    }
-
-    public Boolean getAvailable() {
-        return available;
-    }
-
-    public void setOwner(UserDto owner) {
-        this.owner = owner;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        ItemDto itemDto = (ItemDto) o;
-        return Objects.equals(id, itemDto.id);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(id);
-    }
-}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Считает SQL-запросы, выполненные Hibernate в текущем потоке между {@link #start()} и {@link #stop()}.
+ * Вложенная область подсчёта учитывает свои запросы и во внешней.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+    private static final int MAX_RECORDED_STATEMENTS = 50;
+
+    private final ThreadLocal<Scope> scope = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        for (Scope current = scope.get(); current != null; current = current.parent) {
+            current.record(sql);
+        }
+        return sql;
+    }
+
+    public void start() {
+        scope.set(new Scope(scope.get()));
+    }
+
+    public int current() {
+        Scope current = scope.get();
+        return current == null ? 0 : current.count;
+    }
+
+    public List<String> statements() {
+        Scope current = scope.get();
+        return current == null ? Collections.emptyList() : Collections.unmodifiableList(current.statements);
+    }
+
+    public int stop() {
+        Scope current = scope.get();
+        if (current == null) {
+            return 0;
+        }
+        if (current.parent == null) {
+            scope.remove();
+        } else {
+            scope.set(current.parent);
+        }
+        return current.count;
+    }
+
+    private static final class Scope {
+        private final Scope parent;
+        private final List<String> statements = new ArrayList<>();
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String sql) {
+            count++;
+            if (statements.size() < MAX_RECORDED_STATEMENTS) {
+                statements.add(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.request;
+
+/**
+ * Открытие или закрытие запроса, которое нужно отразить в {@link ItemRequestMatcher}
+ * после фиксации транзакции. Поля копируются в момент публикации.
+ */
+public class ItemRequestChangedEvent {
+    private final Long requestId;
+    private final Long requestorId;
+    private final String description;
+    private final boolean closed;
+
+    private ItemRequestChangedEvent(Long requestId, Long requestorId, String description, boolean closed) {
+        this.requestId = requestId;
+        this.requestorId = requestorId;
+        this.description = description;
+        this.closed = closed;
+    }
+
+    public static ItemRequestChangedEvent opened(ItemRequest itemRequest) {
+        return new ItemRequestChangedEvent(itemRequest.getId(), itemRequest.getRequestor().getId(),
+                itemRequest.getDescription(), false);
+    }
+
+    public static ItemRequestChangedEvent closed(Long requestId) {
+        return new ItemRequestChangedEvent(requestId, null, null, true);
+    }
+
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    public Long getRequestorId() {
+        return requestorId;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
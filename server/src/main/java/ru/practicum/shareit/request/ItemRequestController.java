@@ -2,9 +2,12 @@ package ru.practicum.shareit.request;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.pagination.KeysetCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.time.LocalDateTime;
@@ -40,9 +43,19 @@ public class ItemRequestController {
     @GetMapping(value = "/all")
     public ResponseEntity<?> getAllRequests(@RequestParam(name = "from", defaultValue = "0") int from,
                                             @RequestParam(name = "size", required = false, defaultValue = "10") int size,
+                                            @RequestParam(name = "cursor", required = false) String cursor,
                                             @RequestHeader(X_HEADER) long userId) {
+        Slice<ItemRequestDto> requests = cursor == null
+                ? requestService.getAllRequests(userId, from, size)
+                : requestService.getAllRequestsByCursor(userId, cursor, size);
+        HttpHeaders headers = new HttpHeaders();
+        if (requests.hasNext()) {
+            ItemRequestDto last = requests.getContent().get(requests.getNumberOfElements() - 1);
+            headers.set(KeysetCursor.HEADER, new KeysetCursor(last.getCreated(), last.getId()).encode());
+        }
         return new ResponseEntity<>(
-                requestService.getAllRequests(userId, from, size),
+                requests.getContent(),
+                headers,
                 HttpStatus.OK
         );
     }
@@ -54,4 +67,12 @@ public class ItemRequestController {
                 requestService.getRequestById(requestId, userId),
                 HttpStatus.OK);
     }
+
+    @GetMapping(value = "/{requestId}/suggestions")
+    public ResponseEntity<?> getSuggestions(@PathVariable(value = "requestId") long requestId,
+                                            @RequestHeader(X_HEADER) long userId) {
+        return new ResponseEntity<>(
+                requestService.getSuggestions(requestId, userId),
+                HttpStatus.OK);
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.practicum.shareit.request.dto.ErrorDto;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
 
 @RestControllerAdvice("ru.practicum.shareit.request")
 @Slf4j
@@ -20,4 +21,13 @@ public class ItemRequestExceptionHandler {
                 new ErrorDto("Реквест не найден", e.getMessage()),
                 HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<?> itemRequestValidationExceptionHandler(ValidationException e) {
+        log.warn(e.getMessage());
+        return new ResponseEntity<>(
+                new ErrorDto("Ошибка валидации", e.getMessage()),
+                HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,199 @@
+package ru.practicum.shareit.request;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.Item;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Инвертированный индекс открытых запросов (без привязанных вещей) по основам слов описания.
+ * Новая вещь сопоставляется с запросами за число её слов: оценка запроса -
+ * доля его слов, встретившихся в названии или описании вещи. Индекс меняется только после
+ * фиксации транзакции; перестроение собирает новый индекс в стороне и подменяет текущий.
+ */
+@Component
+@Slf4j
+public class ItemRequestMatcher {
+    private static final int MIN_TOKEN_LENGTH = 3;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "нужна", "нужен", "нужно", "нужны", "ищу", "хочу", "для", "или", "как", "что", "чтобы",
+            "который", "которая", "которое", "которые", "можно", "пожалуйста", "день", "дня", "дней",
+            "the", "and", "for", "with", "need");
+
+    private final ItemRequestRepository requestRepository;
+    private final ItemSuggestionRepository suggestionRepository;
+    private final double minScore;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Snapshot snapshot = new Snapshot();
+    private List<Consumer<Snapshot>> pending;
+
+    @Autowired
+    public ItemRequestMatcher(ItemRequestRepository requestRepository,
+                              ItemSuggestionRepository suggestionRepository,
+                              @Value("${shareit.requests.suggestions.min-score}") double minScore) {
+        this.requestRepository = requestRepository;
+        this.suggestionRepository = suggestionRepository;
+        this.minScore = minScore;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Snapshot rebuilt = new Snapshot();
+        boolean built = false;
+        try {
+            for (ItemRequest itemRequest : requestRepository.findAllOpen()) {
+                rebuilt.add(itemRequest.getId(), itemRequest.getRequestor().getId(), itemRequest.getDescription());
+            }
+            built = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (built) {
+                    pending.forEach(change -> change.accept(rebuilt));
+                    snapshot = rebuilt;
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Индекс открытых запросов построен: {} запросов, {} слов",
+                rebuilt.requests.size(), rebuilt.postings.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRequestChanged(ItemRequestChangedEvent event) {
+        if (event.isClosed()) {
+            change(index -> index.remove(event.getRequestId()));
+        } else {
+            change(index -> index.add(event.getRequestId(), event.getRequestorId(), event.getDescription()));
+        }
+    }
+
+    /**
+     * Сохраняет предложения новой вещи в текущей транзакции. Запрос, к которому вещь
+     * привязана владельцем, не предлагается и закрывается событием после фиксации.
+     */
+    public List<ItemSuggestion> onItemAdded(Item item) {
+        Set<String> tokens = tokenize(item.getName());
+        tokens.addAll(tokenize(item.getDescription()));
+
+        Map<Long, Integer> hits = new HashMap<>();
+        List<ItemSuggestion> suggestions = new ArrayList<>();
+        LocalDateTime created = LocalDateTime.now();
+        lock.readLock().lock();
+        try {
+            Snapshot index = snapshot;
+            for (String token : tokens) {
+                index.postings.getOrDefault(token, Collections.emptySet())
+                        .forEach(requestId -> hits.merge(requestId, 1, Integer::sum));
+            }
+            hits.forEach((requestId, count) -> {
+                double score = (double) count / index.requests.get(requestId).size();
+                if (score >= minScore
+                        && !requestId.equals(item.getRequestId())
+                        && !index.requestors.get(requestId).equals(item.getOwner().getId())) {
+                    suggestions.add(ItemSuggestion.builder()
+                            .requestId(requestId)
+                            .item(item)
+                            .score(score)
+                            .created(created)
+                            .build());
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (suggestions.isEmpty()) {
+            return suggestions;
+        }
+        return suggestionRepository.saveAll(suggestions);
+    }
+
+    private void change(Consumer<Snapshot> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(snapshot);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() < MIN_TOKEN_LENGTH || STOP_WORDS.contains(word)) {
+                continue;
+            }
+            tokens.add(stem(word));
+        }
+        return tokens;
+    }
+
+    private static String stem(String word) {
+        String stem = word.replaceAll("[аеёиоуыэюяйь]+$", "");
+        return stem.length() < MIN_TOKEN_LENGTH ? word : stem;
+    }
+
+    private static final class Snapshot {
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+        private final Map<Long, Set<String>> requests = new HashMap<>();
+        private final Map<Long, Long> requestors = new HashMap<>();
+
+        private void add(Long requestId, Long requestorId, String description) {
+            Set<String> tokens = tokenize(description);
+            if (tokens.isEmpty() || requests.containsKey(requestId)) {
+                return;
+            }
+            requests.put(requestId, tokens);
+            requestors.put(requestId, requestorId);
+            tokens.forEach(token -> postings.computeIfAbsent(token, key -> new HashSet<>()).add(requestId));
+        }
+
+        private void remove(Long requestId) {
+            Set<String> tokens = requests.remove(requestId);
+            requestors.remove(requestId);
+            if (tokens == null) {
+                return;
+            }
+            for (String token : tokens) {
+                Set<Long> ids = postings.get(token);
+                if (ids != null) {
+                    ids.remove(requestId);
+                    if (ids.isEmpty()) {
+                        postings.remove(token);
+                    }
+                }
+            }
+        }
+    }
+}
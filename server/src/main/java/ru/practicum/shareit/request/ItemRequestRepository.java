@@ -1,16 +1,36 @@
 package ru.practicum.shareit.request;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
     List<ItemRequest> findByRequestorId(long requestorId, Sort sort);
 
-    Page<ItemRequest> findAllByRequestorIdNot(long userId, Pageable pageable);
+    @EntityGraph(attributePaths = "requestor")
+    Slice<ItemRequest> findAllByRequestorIdNot(long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "requestor")
+    @Query("select r from ItemRequest r " +
+            "where r.requestor.id <> :userId " +
+            "and (r.created < :created or (r.created = :created and r.id < :id)) " +
+            "order by r.created desc, r.id desc")
+    Slice<ItemRequest> findAllByRequestorIdNotBefore(@Param("userId") long userId,
+                                                     @Param("created") LocalDateTime created,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    @Query("select r from ItemRequest r " +
+            "join fetch r.requestor " +
+            "where not exists (select i.id from Item i where i.requestId = r.id)")
+    List<ItemRequest> findAllOpen();
 }
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.request;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemSuggestionDto;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,7 +12,11 @@ public interface ItemRequestService {
 
     List<ItemRequestDto> getAllRequestsByUser(Long userId);
 
-    List<ItemRequestDto> getAllRequests(Long userId, Integer from, Integer size);
+    Slice<ItemRequestDto> getAllRequests(Long userId, Integer from, Integer size);
+
+    Slice<ItemRequestDto> getAllRequestsByCursor(Long userId, String cursor, Integer size);
 
     ItemRequestDto getRequestById(Long requestId, Long userId);
+
+    List<ItemSuggestionDto> getSuggestions(Long requestId, Long userId);
 }
@@ -1,17 +1,28 @@
 package ru.practicum.shareit.request;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.pagination.KeysetCursor;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemSuggestionDto;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserExistenceCache;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -23,39 +34,45 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
     private final ItemMapper itemMapper;
+    private final UserExistenceCache userExistenceCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ItemSuggestionRepository suggestionRepository;
 
     public ItemRequestServiceImpl(ItemRequestRepository requestRepository,
                                   UserRepository userRepository,
                                   RequestMapper requestMapper,
                                   ItemRepository itemRepository,
-                                  ItemMapper itemMapper) {
+                                  ItemMapper itemMapper,
+                                  UserExistenceCache userExistenceCache,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ItemSuggestionRepository suggestionRepository) {
         this.requestRepository = requestRepository;
         this.requestMapper = requestMapper;
         this.userRepository = userRepository;
         this.itemRepository = itemRepository;
         this.itemMapper = itemMapper;
+        this.userExistenceCache = userExistenceCache;
+        this.eventPublisher = eventPublisher;
+        this.suggestionRepository = suggestionRepository;
     }
 
     @Override
+    @Transactional
     public ItemRequestDto addRequest(ItemRequestDto requestDto, Long userId, LocalDateTime created) {
-        userExistOrElseThrow(
-                userRepository.findById(userId),
-                userId);
+        User requestor = userRepository.findById(userId).orElseThrow(
+                () -> new NotFoundException(userId));
 
         ItemRequest itemRequest = requestMapper.toItemRequest(requestDto);
         itemRequest.setCreated(created);
-        itemRequest.setId(userId);
-        itemRequest.setRequestor(userRepository.findById(userId).orElseThrow(
-                () -> new NotFoundException(userId)));
-        return requestMapper.toItemRequestDto(
-                requestRepository.save(itemRequest));
+        itemRequest.setRequestor(requestor);
+        ItemRequest savedRequest = requestRepository.save(itemRequest);
+        eventPublisher.publishEvent(ItemRequestChangedEvent.opened(savedRequest));
+        return requestMapper.toItemRequestDto(savedRequest);
     }
 
     @Override
     public List<ItemRequestDto> getAllRequestsByUser(Long userId) {
-        userExistOrElseThrow(
-                userRepository.findById(userId),
-                userId);
+        userExistOrElseThrow(userId);
 
         List<ItemRequestDto> itemRequestDtoList = requestRepository.findByRequestorId(
                 userId,
@@ -69,25 +86,35 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     @Override
-    public List<ItemRequestDto> getAllRequests(Long userId, Integer from, Integer size) {
-        userExistOrElseThrow(
-                userRepository.findById(userId),
-                userId
-        );
-        Sort sort = Sort.by(Sort.Direction.DESC, "created");
-        PageRequest pageRequest = PageRequest.of(from / size, size, sort);
+    public Slice<ItemRequestDto> getAllRequests(Long userId, Integer from, Integer size) {
+        userExistOrElseThrow(userId);
+        Sort sort = Sort.by(Sort.Direction.DESC, "created", "id");
+        Pageable pageRequest = OffsetPageRequest.of(from, size, sort);
+
+        Slice<ItemRequestDto> itemRequestDtoSlice = requestRepository.findAllByRequestorIdNot(userId, pageRequest)
+                .map(requestMapper::toItemRequestDto);
+        setItemsForRequestDto(itemRequestDtoSlice.getContent());
+        return itemRequestDtoSlice;
+    }
 
-        List<ItemRequestDto> itemRequestDtoList = requestRepository.findAllByRequestorIdNot(userId, pageRequest)
-                        .stream()
-                        .map(requestMapper::toItemRequestDto)
-                        .collect(Collectors.toList());
-        setItemsForRequestDto(itemRequestDtoList);
-        return itemRequestDtoList;
+    @Override
+    public Slice<ItemRequestDto> getAllRequestsByCursor(Long userId, String cursor, Integer size) {
+        userExistOrElseThrow(userId);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        Slice<ItemRequestDto> itemRequestDtoSlice = requestRepository.findAllByRequestorIdNotBefore(
+                        userId,
+                        position.getPosition(),
+                        position.getId(),
+                        PageRequest.of(0, size))
+                .map(requestMapper::toItemRequestDto);
+        setItemsForRequestDto(itemRequestDtoSlice.getContent());
+        return itemRequestDtoSlice;
     }
 
     @Override
     public ItemRequestDto getRequestById(Long requestId, Long userId) {
-        userExistOrElseThrow(userRepository.findById(userId), userId);
+        userExistOrElseThrow(userId);
         ItemRequest itemRequest =  getItemRequestOrElseThrow(
                 requestRepository.findById(requestId),
                 requestId);
@@ -101,24 +128,44 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         return itemRequestDto;
     }
 
+    @Override
+    public List<ItemSuggestionDto> getSuggestions(Long requestId, Long userId) {
+        userExistOrElseThrow(userId);
+        if (!requestRepository.existsById(requestId)) {
+            throw new NotFoundException(requestId);
+        }
+        return suggestionRepository.findByRequestId(requestId)
+                .stream()
+                .map(requestMapper::toItemSuggestionDto)
+                .collect(Collectors.toList());
+    }
+
     private ItemRequest getItemRequestOrElseThrow(Optional<ItemRequest> optionalItemRequest,
                                                   Long requestId) {
         return optionalItemRequest.orElseThrow(
                 () -> new NotFoundException(requestId));
     }
 
-    private void userExistOrElseThrow(Optional<User> optionalUser, Long userId) {
-        optionalUser.orElseThrow(
-                () -> new NotFoundException(userId));
+    private void userExistOrElseThrow(Long userId) {
+        if (!userExistenceCache.exists(userId)) {
+            throw new NotFoundException(userId);
+        }
     }
 
     private void setItemsForRequestDto(List<ItemRequestDto> itemRequestDto) {
+        if (itemRequestDto.isEmpty()) {
+            return;
+        }
+        Map<Long, List<ItemDto>> items = itemRepository.findByRequestIdIn(
+                        itemRequestDto.stream()
+                                .map(ItemRequestDto::getId)
+                                .collect(Collectors.toList()))
+                .stream()
+                .map(itemMapper::toItemDto)
+                .collect(Collectors.groupingBy(ItemDto::getRequestId));
         itemRequestDto.forEach(
-                (item) -> item.setItems(
-                        itemRepository.findByRequestId(item.getId())
-                                .stream()
-                                .map(itemMapper::toItemDto)
-                                .collect(Collectors.toList())
+                (request) -> request.setItems(
+                        items.getOrDefault(request.getId(), new ArrayList<>())
                 )
         );
     }
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ItemSuggestionRepository extends JpaRepository<ItemSuggestion, Long> {
+    @Query("select s from ItemSuggestion s " +
+            "join fetch s.item i " +
+            "join fetch i.owner " +
+            "where s.requestId = :requestId " +
+            "order by s.score desc, s.id asc")
+    List<ItemSuggestion> findByRequestId(@Param("requestId") Long requestId);
+}
@@ -1,13 +1,17 @@
 package ru.practicum.shareit.request;
 
 import org.mapstruct.Mapper;
+import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemSuggestionDto;
 import ru.practicum.shareit.user.UserMapper;
 
-@Mapper(componentModel = "spring", uses = {UserMapper.class})
+@Mapper(componentModel = "spring", uses = {UserMapper.class, ItemMapper.class})
 public interface  RequestMapper {
 
     ItemRequestDto toItemRequestDto(ItemRequest itemRequest);
 
     ItemRequest toItemRequest(ItemRequestDto itemRequestDto);
+
+    ItemSuggestionDto toItemSuggestionDto(ItemSuggestion itemSuggestion);
 }
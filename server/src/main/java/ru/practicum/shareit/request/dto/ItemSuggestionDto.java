@@ -4,32 +4,22 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.experimental.FieldDefaults;
 import ru.practicum.shareit.item.dto.ItemDto;
-import ru.practicum.shareit.user.dto.UserDto;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Objects;
 
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE)
-public class ItemRequestDto {
+public class ItemSuggestionDto {
     Long id;
 
-    String description;
+    Long requestId;
 
-    UserDto requestor;
+    ItemDto item;
 
-    LocalDateTime created;
-
-    List<ItemDto> items;
-
-    public List<ItemDto> getItems() {
-        return items;
-    }
+    Double score;
 
-    public void setItems(List<ItemDto> items) {
-        this.items = items;
-    }
+    LocalDateTime created;
 
     public Long getId() {
         return id;
@@ -39,20 +29,28 @@ public class ItemRequestDto {
         this.id = id;
     }
 
-    public String getDescription() {
-        return description;
+    public Long getRequestId() {
+        return requestId;
     }
 
-    public void setDescription(String description) {
-        this.description = description;
+    public void setRequestId(Long requestId) {
+        this.requestId = requestId;
     }
 
-    public UserDto getRequestor() {
-        return requestor;
+    public ItemDto getItem() {
+        return item;
     }
 
-    public void setRequestor(UserDto requestor) {
-        this.requestor = requestor;
+    public void setItem(ItemDto item) {
+        this.item = item;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
     }
 
     public LocalDateTime getCreated() {
@@ -67,7 +65,7 @@ public class ItemRequestDto {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
-        ItemRequestDto that = (ItemRequestDto) o;
+        ItemSuggestionDto that = (ItemSuggestionDto) o;
         return Objects.equals(id, that.id);
     }
 
@@ -75,14 +73,4 @@ public class ItemRequestDto {
     public int hashCode() {
         return Objects.hash(id);
     }
-
-    @Override
-    public String toString() {
-        return "ItemRequestDto{" +
-                "id=" + id +
-                ", description='" + description + '\'' +
-                ", requestor=" + requestor +
-                ", created=" + created +
-                '}';
-    }
 }
@@ -16,12 +16,15 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserExistenceCache userExistenceCache;
 
     @Autowired
     public UserServiceImpl(UserRepository userRepository,
-                           UserMapper userMapper) {
+                           UserMapper userMapper,
+                           UserExistenceCache userExistenceCache) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.userExistenceCache = userExistenceCache;
     }
 
     @Override
@@ -41,7 +44,9 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserDto addUser(UserDto userDto) {
         try {
-            return userMapper.toUserDto(userRepository.save(userMapper.toUser(userDto)));
+            User user = userRepository.save(userMapper.toUser(userDto));
+            userExistenceCache.invalidate(user.getId());
+            return userMapper.toUserDto(user);
         } catch (DataIntegrityViolationException e) {
             throw new CreateException("Ошибка при создании юзера");
         }
@@ -77,6 +82,8 @@ public class UserServiceImpl implements UserService {
             userRepository.deleteById(userId);
         } catch (EmptyResultDataAccessException e) {
             throw new NotFoundException(userId);
+        } finally {
+            userExistenceCache.invalidate(userId);
         }
     }
 
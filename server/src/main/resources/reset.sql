@@ -0,0 +1 @@
+DROP TABLE IF EXISTS users, items, bookings, comments, requests, suggestions;
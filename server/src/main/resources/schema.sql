@@ -1,5 +1,3 @@
-DROP TABLE IF EXISTS users, items, bookings, comments, requests;
-
 CREATE TABLE IF NOT EXISTS users (
     user_id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
     user_name VARCHAR(50),
@@ -19,6 +17,8 @@ CREATE TABLE IF NOT EXISTS items (
     CONSTRAINT fk_item_user FOREIGN KEY (item_owner_id) REFERENCES users (user_id) ON DELETE CASCADE
 );
 
+CREATE INDEX IF NOT EXISTS ix_item_owner ON items (item_owner_id);
+
 CREATE TABLE IF NOT EXISTS bookings (
     booking_id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
     start_date TIMESTAMP WITHOUT TIME ZONE,
@@ -31,6 +31,9 @@ CREATE TABLE IF NOT EXISTS bookings (
     CONSTRAINT fk_booking_item FOREIGN KEY (item_id) REFERENCES items (item_id) ON DELETE CASCADE
 );
 
+CREATE INDEX IF NOT EXISTS ix_booking_booker_start ON bookings (booker_id, start_date, booking_id);
+CREATE INDEX IF NOT EXISTS ix_booking_item_start ON bookings (item_id, start_date, booking_id);
+
 CREATE TABLE IF NOT EXISTS comments (
     comment_id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
     comment_text VARCHAR(100) NOT NULL,
@@ -51,3 +54,16 @@ CREATE TABLE IF NOT EXISTS requests (
     CONSTRAINT fk_request_user FOREIGN KEY (requestor_id) REFERENCES users (user_id) ON DELETE CASCADE
 );
 
+CREATE INDEX IF NOT EXISTS ix_request_created ON requests (request_created DESC, request_id DESC);
+
+CREATE TABLE IF NOT EXISTS suggestions (
+    suggestion_id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    request_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    suggestion_score DOUBLE PRECISION NOT NULL,
+    suggestion_created TIMESTAMP NOT NULL,
+    CONSTRAINT pk_suggestion PRIMARY KEY (suggestion_id),
+    CONSTRAINT fk_suggestion_request FOREIGN KEY (request_id) REFERENCES requests (request_id) ON DELETE CASCADE,
+    CONSTRAINT fk_suggestion_item FOREIGN KEY (item_id) REFERENCES items (item_id) ON DELETE CASCADE,
+    CONSTRAINT uq_suggestion UNIQUE (request_id, item_id)
+);